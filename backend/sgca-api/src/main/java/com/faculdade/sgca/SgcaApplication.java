@@ -2,9 +2,11 @@ package com.faculdade.sgca;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 // abrir o swagger http://localhost:8081/swagger-ui/index.html
 
 @SpringBootApplication
+@EnableScheduling
 public class SgcaApplication {
 
 	public static void main(String[] args) {
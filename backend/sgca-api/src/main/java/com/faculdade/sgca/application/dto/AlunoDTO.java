@@ -31,6 +31,9 @@ public class AlunoDTO {
     @Schema(description = "Status acadêmico do aluno (ATIVO, INATIVO, FORMADO)", example = "ATIVO")
     private String status;
 
+    @Schema(description = "Versão do registro (a mesma do ETag); mude-a e o If-Match antigo deixa de valer", example = "3")
+    private Long versao;
+
     public Long getId() {
         return id;
     }
@@ -78,4 +81,12 @@ public class AlunoDTO {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
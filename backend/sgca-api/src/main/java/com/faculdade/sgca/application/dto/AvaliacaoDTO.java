@@ -25,6 +25,9 @@ public class AvaliacaoDTO {
     @Schema(description = "Identificador da turma associada", example = "10")
     private Long turmaId;
 
+    @Schema(description = "Versão do registro (a mesma do ETag); mude-a e o If-Match antigo deixa de valer", example = "3")
+    private Long versao;
+
     public Long getId() {
         return id;
     }
@@ -64,4 +67,12 @@ public class AvaliacaoDTO {
     public void setTurmaId(Long turmaId) {
         this.turmaId = turmaId;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
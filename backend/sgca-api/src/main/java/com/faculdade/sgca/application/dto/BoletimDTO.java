@@ -0,0 +1,98 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Boletim do aluno autenticado: matrículas, notas, média final e frequência")
+public class BoletimDTO {
+
+    @Schema(example = "5")
+    private Long alunoId;
+
+    @Schema(example = "Maria Souza")
+    private String alunoNome;
+
+    @Schema(description = "Matrículas do aluno, do período mais recente para o mais antigo")
+    private List<Matricula> matriculas;
+
+    private Instant geradoEm;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "BoletimMatricula", description = "Uma disciplina cursada pelo aluno")
+    public static class Matricula {
+
+        @Schema(example = "12")
+        private Long matriculaId;
+
+        @Schema(example = "ATIVA")
+        private String situacao;
+
+        @Schema(example = "3")
+        private Long turmaId;
+
+        @Schema(example = "2025.1")
+        private String periodo;
+
+        @Schema(example = "4")
+        private Long disciplinaId;
+
+        @Schema(example = "Estruturas de Dados")
+        private String disciplina;
+
+        @Schema(example = "2")
+        private Long cursoId;
+
+        @Schema(example = "Análise e Desenvolvimento de Sistemas")
+        private String curso;
+
+        @Schema(description = "Avaliações da turma com a nota do aluno, em ordem de id")
+        private List<Nota> notas;
+
+        @Schema(description = "Soma dos pesos das avaliações da turma", example = "100")
+        private double somaPesos;
+
+        @Schema(description = "Média ponderada com as regras de cada tipo; avaliação sem nota conta zero", example = "7.35")
+        private double notaFinal;
+
+        private FrequenciaDTO frequencia;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "BoletimNota", description = "Avaliação da turma e a nota do aluno nela")
+    public static class Nota {
+
+        @Schema(example = "7")
+        private Long avaliacaoId;
+
+        @Schema(example = "P1")
+        private String titulo;
+
+        @Schema(description = "Prova, Trabalho ou Participacao", example = "Prova")
+        private String tipo;
+
+        @Schema(example = "40")
+        private double peso;
+
+        @Schema(description = "Vazio enquanto a nota não for lançada", example = "8.5")
+        private Double valor;
+
+        private LocalDateTime lancadaEm;
+    }
+}
@@ -13,6 +13,7 @@ public class CursoDTO {
     private String nome;
     private int cargaHoraria;
     private String descricao;
+    private Long versao;
 
     public Long getId() {
         return id;
@@ -53,4 +54,12 @@ public class CursoDTO {
     public void setDescricao(String descricao) {
         this.descricao = descricao;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
@@ -0,0 +1,33 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Contagens gerais do sistema para os painéis")
+public class DashboardResumoDTO {
+
+    @Schema(description = "Total de registros por entidade",
+            example = "{\"alunos\": 1520, \"cursos\": 8, \"disciplinas\": 96, \"turmas\": 210, "
+                    + "\"matriculas\": 9800, \"avaliacoes\": 640, \"usuarios\": 1610}")
+    private Map<String, Long> totais;
+
+    @Schema(description = "Matrículas ATIVA por período da turma", example = "{\"2025.1\": 4200, \"2025.2\": 3900}")
+    private Map<String, Long> matriculasAtivasPorPeriodo;
+
+    @Schema(description = "Usuários por perfil (perfis sem usuário aparecem com zero)",
+            example = "{\"ADMIN\": 3, \"PROFESSOR\": 87, \"ALUNO\": 1520}")
+    private Map<String, Long> usuariosPorPerfil;
+
+    @Schema(description = "Momento em que as contagens foram feitas")
+    private Instant geradoEm;
+}
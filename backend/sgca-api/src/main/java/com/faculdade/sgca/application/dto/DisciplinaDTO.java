@@ -13,6 +13,7 @@ public class DisciplinaDTO {
     private String nome;
     private int cargaHoraria;
     private Long cursoId;
+    private Long versao;
 
     public Long getId() {
         return id;
@@ -53,4 +54,12 @@ public class DisciplinaDTO {
     public void setCursoId(Long cursoId) {
         this.cursoId = cursoId;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
@@ -0,0 +1,48 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Frequência de uma matrícula")
+public class FrequenciaDTO {
+
+    @Schema(example = "12")
+    private Long matriculaId;
+
+    @Schema(example = "5")
+    private Long alunoId;
+
+    @Schema(example = "3")
+    private Long turmaId;
+
+    @Schema(description = "Aulas com chamada registrada", example = "40")
+    private int aulas;
+
+    @Schema(example = "34")
+    private int presencas;
+
+    @Schema(example = "6")
+    private int faltas;
+
+    @Schema(description = "Percentual de presença (vazio enquanto não houver aula registrada)", example = "85.0")
+    private Double percentual;
+
+    @Schema(description = "Percentual abaixo da frequência mínima exigida", example = "false")
+    private boolean abaixoDoMinimo;
+
+    // usado pelas consultas JPQL (contador ausente chega como zero)
+    public FrequenciaDTO(Long matriculaId, Long alunoId, Long turmaId, Integer aulas, Integer presencas) {
+        this.matriculaId = matriculaId;
+        this.alunoId = alunoId;
+        this.turmaId = turmaId;
+        this.aulas = aulas;
+        this.presencas = presencas;
+        this.faltas = aulas - presencas;
+        this.percentual = aulas > 0 ? Math.round(presencas * 1000.0 / aulas) / 10.0 : null;
+    }
+}
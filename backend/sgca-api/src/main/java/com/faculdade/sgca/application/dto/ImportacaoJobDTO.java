@@ -0,0 +1,46 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Situação de uma importação em lote")
+public class ImportacaoJobDTO {
+
+    @Schema(description = "Identificador da importação (use em 'retomar' para continuar de onde parou)", example = "1")
+    private Long id;
+
+    @Schema(description = "ALUNOS ou MATRICULAS", example = "ALUNOS")
+    private String tipo;
+
+    @Schema(description = "CSV ou NDJSON", example = "CSV")
+    private String formato;
+
+    @Schema(description = "PROCESSANDO, INTERROMPIDA ou CONCLUIDA", example = "CONCLUIDA")
+    private String status;
+
+    @Schema(description = "Linhas do arquivo já confirmadas no banco (inclui o cabeçalho do CSV)", example = "20001")
+    private long linhasLidas;
+
+    @Schema(description = "Registros gravados", example = "19874")
+    private long importadas;
+
+    @Schema(description = "Registros rejeitados (ver /rejeitados)", example = "126")
+    private long rejeitadas;
+
+    @Schema(description = "Blocos confirmados", example = "40")
+    private int blocosConfirmados;
+
+    @Schema(description = "Motivo da interrupção, quando houver")
+    private String erro;
+
+    private Instant iniciadaEm;
+    private Instant atualizadaEm;
+    private Instant concluidaEm;
+}
@@ -0,0 +1,36 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Resultado de uma linha de uma operação em lote")
+public class ItemResultadoLoteDTO {
+
+    public static final String CRIADO = "CRIADO";
+    public static final String ATUALIZADO = "ATUALIZADO";
+    public static final String REJEITADO = "REJEITADO";
+
+    @Schema(description = "Matrícula da linha", example = "12")
+    private Long matriculaId;
+
+    @Schema(description = "CRIADO, ATUALIZADO ou REJEITADO", example = "CRIADO")
+    private String status;
+
+    @Schema(description = "Motivo da rejeição, quando houver")
+    private String erro;
+
+    public static ItemResultadoLoteDTO criado(Long matriculaId) {
+        return new ItemResultadoLoteDTO(matriculaId, CRIADO, null);
+    }
+
+    public static ItemResultadoLoteDTO atualizado(Long matriculaId) {
+        return new ItemResultadoLoteDTO(matriculaId, ATUALIZADO, null);
+    }
+
+    public static ItemResultadoLoteDTO rejeitado(Long matriculaId, String erro) {
+        return new ItemResultadoLoteDTO(matriculaId, REJEITADO, erro);
+    }
+}
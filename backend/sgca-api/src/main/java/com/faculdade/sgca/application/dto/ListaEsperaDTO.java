@@ -0,0 +1,31 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Entrada na lista de espera de uma turma lotada")
+public class ListaEsperaDTO {
+
+    @Schema(example = "812")
+    private Long id;
+
+    @Schema(example = "5")
+    private Long alunoId;
+
+    @Schema(example = "3")
+    private Long turmaId;
+
+    @Schema(description = "Posição na fila da turma (1 = o próximo a ser promovido)", example = "4")
+    private long posicao;
+
+    private Instant entradaEm;
+}
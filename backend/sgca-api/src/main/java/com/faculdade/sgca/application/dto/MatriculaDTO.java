@@ -15,6 +15,7 @@ public class MatriculaDTO {
     private Long turmaId;
     private LocalDate data;
     private String situacao;
+    private Long versao;
 
     public Long getId() {
         return id;
@@ -55,4 +56,12 @@ public class MatriculaDTO {
     public void setSituacao(String situacao) {
         this.situacao = situacao;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
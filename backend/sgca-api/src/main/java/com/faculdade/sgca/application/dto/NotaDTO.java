@@ -15,6 +15,7 @@ public class NotaDTO {
     private Long matriculaId;
     private double valor;
     private LocalDateTime data;
+    private Long versao;
 
     public Long getId() {
         return id;
@@ -55,4 +56,12 @@ public class NotaDTO {
     public void setData(LocalDateTime data) {
         this.data = data;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
@@ -0,0 +1,37 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lançamento das notas de uma avaliação para vários alunos")
+public class NotaLoteDTO {
+
+    @Schema(description = "Avaliação cujas notas estão sendo lançadas", example = "7")
+    private Long avaliacaoId;
+
+    @Schema(description = "Notas por matrícula")
+    private List<Linha> notas;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "NotaLoteLinha", description = "Nota de uma matrícula")
+    public static class Linha {
+
+        @Schema(description = "Matrícula do aluno", example = "12")
+        private Long matriculaId;
+
+        @Schema(description = "Valor da nota (0 a 10)", example = "8.5")
+        private Double valor;
+    }
+}
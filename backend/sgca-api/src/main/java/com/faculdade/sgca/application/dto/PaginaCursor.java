@@ -0,0 +1,23 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Página de resultados com cursor para a próxima página (paginação por keyset)")
+public class PaginaCursor<T> {
+
+    @Schema(description = "Itens da página, ordenados por id crescente")
+    private List<T> itens;
+
+    @Schema(description = "Cursor opaco para buscar a próxima página (parâmetro 'after'); nulo na última página",
+            example = "djE6MTIz")
+    private String proximoCursor;
+
+    @Schema(description = "Tamanho de página efetivamente aplicado", example = "50")
+    private int limite;
+}
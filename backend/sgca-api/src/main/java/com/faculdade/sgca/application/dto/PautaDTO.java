@@ -0,0 +1,79 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pauta da turma: nota de cada matrícula em cada avaliação e a média final ponderada")
+public class PautaDTO {
+
+    @Schema(example = "3")
+    private Long turmaId;
+
+    @Schema(description = "Soma dos pesos das avaliações da turma", example = "100")
+    private double somaPesos;
+
+    @Schema(description = "Colunas da pauta, em ordem de id")
+    private List<Coluna> avaliacoes;
+
+    @Schema(description = "Linhas da pauta, em ordem de nome do aluno")
+    private List<Linha> matriculas;
+
+    private Instant geradaEm;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PautaAvaliacao", description = "Avaliação da turma")
+    public static class Coluna {
+
+        @Schema(example = "7")
+        private Long id;
+
+        @Schema(example = "P1")
+        private String titulo;
+
+        @Schema(description = "Prova, Trabalho ou Participacao", example = "Prova")
+        private String tipo;
+
+        @Schema(example = "40")
+        private double peso;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(name = "PautaLinha", description = "Notas de uma matrícula")
+    public static class Linha {
+
+        @Schema(example = "12")
+        private Long matriculaId;
+
+        @Schema(example = "5")
+        private Long alunoId;
+
+        @Schema(example = "Maria Souza")
+        private String alunoNome;
+
+        @Schema(example = "ATIVA")
+        private String situacao;
+
+        @Schema(description = "Nota lançada por id de avaliação (avaliações sem nota não aparecem)")
+        private Map<Long, Double> notas;
+
+        @Schema(description = "Média ponderada com as regras de cada tipo; avaliação sem nota conta zero", example = "7.35")
+        private double notaFinal;
+    }
+}
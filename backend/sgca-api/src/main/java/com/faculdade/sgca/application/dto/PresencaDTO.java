@@ -14,6 +14,7 @@ public class PresencaDTO {
     private Long matriculaId;
     private LocalDate dataAula;
     private boolean presente;
+    private Long versao;
 
     public Long getId() {
         return id;
@@ -54,4 +55,12 @@ public class PresencaDTO {
     public void setPresente(boolean presente) {
         this.presente = presente;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
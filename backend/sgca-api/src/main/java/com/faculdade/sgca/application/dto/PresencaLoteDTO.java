@@ -0,0 +1,28 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Chamada de uma turma inteira para uma data de aula")
+public class PresencaLoteDTO {
+
+    @Schema(description = "Turma da aula", example = "3")
+    private Long turmaId;
+
+    @Schema(description = "Data da aula", example = "2025-03-10")
+    private LocalDate dataAula;
+
+    @Schema(description = "Presença por matrícula (id da matrícula -> presente)",
+            example = "{\"12\": true, \"13\": false}")
+    private Map<Long, Boolean> presencas;
+}
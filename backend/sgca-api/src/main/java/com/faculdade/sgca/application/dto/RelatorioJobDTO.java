@@ -0,0 +1,42 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Situação de um relatório pedido ao motor de relatórios")
+public class RelatorioJobDTO {
+
+    public static final String AGUARDANDO = "AGUARDANDO";
+    public static final String PROCESSANDO = "PROCESSANDO";
+    public static final String CONCLUIDO = "CONCLUIDO";
+    public static final String FALHOU = "FALHOU";
+
+    @Schema(description = "Identificador do relatório; o mesmo pedido gera sempre o mesmo id",
+            example = "c3VyC28tMi0yMDI1LjE")
+    private String id;
+
+    @Schema(example = "CURSO")
+    private String tipo;
+
+    @Schema(description = "AGUARDANDO, PROCESSANDO, CONCLUIDO ou FALHOU", example = "CONCLUIDO")
+    private String status;
+
+    @Schema(description = "Tamanho do resultado em bytes", example = "48213")
+    private long tamanhoBytes;
+
+    @Schema(description = "Motivo da falha, quando houver")
+    private String erro;
+
+    private Instant solicitadoEm;
+    private Instant concluidoEm;
+
+    @Schema(description = "A partir de quando o resultado deixa de ser servido do cache")
+    private Instant expiraEm;
+}
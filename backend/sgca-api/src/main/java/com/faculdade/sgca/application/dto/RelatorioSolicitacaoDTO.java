@@ -0,0 +1,27 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Pedido de geração de relatório")
+public class RelatorioSolicitacaoDTO {
+
+    @Schema(description = "ALUNO ou CURSO", example = "CURSO")
+    private String tipo;
+
+    @Schema(description = "Obrigatório para o tipo ALUNO", example = "5")
+    private Long alunoId;
+
+    @Schema(description = "Obrigatório para o tipo CURSO", example = "2")
+    private Long cursoId;
+
+    @Schema(description = "Restringe às turmas de um período (opcional)", example = "2025.1")
+    private String periodo;
+}
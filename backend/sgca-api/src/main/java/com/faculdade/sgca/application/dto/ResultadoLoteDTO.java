@@ -0,0 +1,27 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "Resumo de uma operação em lote, com o resultado de cada linha")
+public class ResultadoLoteDTO {
+
+    private final int criados;
+    private final int atualizados;
+    private final int rejeitados;
+    private final List<ItemResultadoLoteDTO> itens;
+
+    public ResultadoLoteDTO(List<ItemResultadoLoteDTO> itens) {
+        this.itens = itens;
+        this.criados = contar(itens, ItemResultadoLoteDTO.CRIADO);
+        this.atualizados = contar(itens, ItemResultadoLoteDTO.ATUALIZADO);
+        this.rejeitados = contar(itens, ItemResultadoLoteDTO.REJEITADO);
+    }
+
+    private static int contar(List<ItemResultadoLoteDTO> itens, String status) {
+        return (int) itens.stream().filter(i -> i.getStatus().equals(status)).count();
+    }
+}
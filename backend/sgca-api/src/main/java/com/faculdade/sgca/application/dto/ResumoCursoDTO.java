@@ -0,0 +1,40 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Indicadores agregados de um curso, no total ou em um período")
+public class ResumoCursoDTO {
+
+    @Schema(example = "2")
+    private Long cursoId;
+
+    @Schema(example = "Análise e Desenvolvimento de Sistemas")
+    private String curso;
+
+    @Schema(description = "Vazio quando o resumo cobre todos os períodos", example = "2025.1")
+    private String periodo;
+
+    @Schema(example = "48")
+    private long turmas;
+
+    @Schema(description = "Alunos distintos com matrícula ATIVA", example = "612")
+    private long alunosAtivos;
+
+    @Schema(description = "Média das médias finais das matrículas com nota lançada", example = "7.12")
+    private Double mediaFinal;
+
+    @Schema(description = "Média do percentual de presença das matrículas com aula registrada", example = "86.4")
+    private Double frequenciaMedia;
+
+    private Instant geradoEm;
+}
@@ -0,0 +1,57 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Situação (ou prévia) da abertura de um período")
+public class RolloverJobDTO {
+
+    public static final String SIMULADO = "SIMULADO";
+    public static final String AGUARDANDO = "AGUARDANDO";
+    public static final String PROCESSANDO = "PROCESSANDO";
+    public static final String CONCLUIDO = "CONCLUIDO";
+    public static final String FALHOU = "FALHOU";
+
+    @Schema(description = "Identificador do job (vazio na simulação)", example = "3f0c6a4e-8d2b-4f7e-9a51-2b7c1d9e0a11")
+    private String id;
+
+    @Schema(description = "SIMULADO, AGUARDANDO, PROCESSANDO, CONCLUIDO ou FALHOU", example = "CONCLUIDO")
+    private String status;
+
+    @Schema(example = "2025.1")
+    private String periodoOrigem;
+
+    @Schema(example = "2025.2")
+    private String periodoDestino;
+
+    private boolean manterProfessor;
+
+    @Schema(description = "Turmas do período de origem", example = "320")
+    private long turmasOrigem;
+
+    @Schema(description = "Turmas criadas no destino (ou que seriam, na simulação)", example = "318")
+    private long turmasCriadas;
+
+    @Schema(description = "Turmas que já existiam no destino e foram mantidas", example = "2")
+    private long turmasExistentes;
+
+    @Schema(description = "Avaliações copiadas (ou que seriam, na simulação)", example = "1272")
+    private long avaliacoesCopiadas;
+
+    @Schema(description = "Disciplinas com mais de uma turma na origem ou no destino que já tinham turma no "
+            + "destino: sem par único entre as turmas, as avaliações não são completadas", example = "0")
+    private long disciplinasAmbiguas;
+
+    @Schema(description = "Motivo da falha, quando houver")
+    private String erro;
+
+    private Instant solicitadoEm;
+    private Instant concluidoEm;
+}
@@ -0,0 +1,25 @@
+package com.faculdade.sgca.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Schema(description = "Abertura de um período a partir das turmas e avaliações de outro")
+public class RolloverPeriodoDTO {
+
+    @Schema(description = "Período de onde as turmas são copiadas", example = "2025.1")
+    private String periodoOrigem;
+
+    @Schema(description = "Período a ser aberto", example = "2025.2")
+    private String periodoDestino;
+
+    @Schema(description = "Mantém o professor de cada turma (padrão: true)", example = "true")
+    private Boolean manterProfessor;
+
+    @Schema(description = "Só calcula o que seria copiado, sem gravar nada", example = "false")
+    private boolean simular;
+}
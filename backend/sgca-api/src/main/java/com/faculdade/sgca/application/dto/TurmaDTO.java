@@ -12,6 +12,7 @@ public class TurmaDTO {
     private String periodo;
     private Long professorId;
     private Integer capacidade;
+    private Long versao;
 
     public Long getId() {
         return id;
@@ -52,4 +53,12 @@ public class TurmaDTO {
     public void setCapacidade(Integer capacidade) {
         this.capacidade = capacidade;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
@@ -13,6 +13,15 @@ public class UsuarioDTO {
     private String nome;
     private String email;
     private PerfilUsuario perfil;
+    private Long versao;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
 
     public String getNome() {
         return nome;
@@ -37,4 +46,12 @@ public class UsuarioDTO {
     public void setPerfil(PerfilUsuario perfil) {
         this.perfil = perfil;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
@@ -0,0 +1,12 @@
+package com.faculdade.sgca.application.event;
+
+/**
+ * Publicado quando muda algo que aparece na pauta de uma turma (nota,
+ * avaliação ou matrícula). {@code turmaId} nulo vale para todas as turmas.
+ */
+public record PautaAlteradaEvent(Long turmaId) {
+
+    public static PautaAlteradaEvent todas() {
+        return new PautaAlteradaEvent(null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.faculdade.sgca.application.event;
+
+/**
+ * Publicado quando uma turma pode ter ganhado vaga (matrícula excluída ou
+ * saindo de ATIVA, capacidade aumentada, contador recontado). Dispara a
+ * promoção da lista de espera da turma depois do commit.
+ */
+public record VagaLiberadaEvent(Long turmaId) {
+}
@@ -3,12 +3,16 @@ package com.faculdade.sgca.application.mapper;
 import com.faculdade.sgca.application.dto.DisciplinaDTO;
 import com.faculdade.sgca.domain.model.Disciplina;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface DisciplinaMapper {
+
+    // Entidade -> DTO
+    @Mapping(source = "curso.id", target = "cursoId")
     DisciplinaDTO toDTO(Disciplina entity);
 
+    // DTO -> Entidade (o curso é resolvido no service)
+    @Mapping(target = "curso", ignore = true)
     Disciplina toEntity(DisciplinaDTO dto);
-
-
 }
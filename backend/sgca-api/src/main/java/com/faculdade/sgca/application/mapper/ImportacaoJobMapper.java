@@ -0,0 +1,10 @@
+package com.faculdade.sgca.application.mapper;
+
+import com.faculdade.sgca.application.dto.ImportacaoJobDTO;
+import com.faculdade.sgca.domain.model.ImportacaoJob;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ImportacaoJobMapper {
+    ImportacaoJobDTO toDTO(ImportacaoJob entity);
+}
@@ -3,11 +3,18 @@ package com.faculdade.sgca.application.mapper;
 import com.faculdade.sgca.application.dto.TurmaDTO;
 import com.faculdade.sgca.domain.model.Turma;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface TurmaMapper {
-    TurmaDTO toDTO(Turma entity);
-    Turma toEntity(TurmaDTO dto);
 
+    // Entidade -> DTO (só os ids: o proxy lazy devolve o id sem ir ao banco)
+    @Mapping(source = "disciplina.id", target = "disciplinaId")
+    @Mapping(source = "professor.id", target = "professorId")
+    TurmaDTO toDTO(Turma entity);
 
+    // DTO -> Entidade (disciplina e professor são resolvidos no service)
+    @Mapping(target = "disciplina", ignore = true)
+    @Mapping(target = "professor", ignore = true)
+    Turma toEntity(TurmaDTO dto);
 }
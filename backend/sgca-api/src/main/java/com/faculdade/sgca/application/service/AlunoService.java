@@ -1,6 +1,7 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.AlunoDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.AlunoMapper;
 import com.faculdade.sgca.domain.model.Aluno;
 import com.faculdade.sgca.infrastructure.repository.AlunoRepository;
@@ -8,7 +9,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,12 +17,10 @@ public class AlunoService {
     private final AlunoRepository repository;
     private final AlunoMapper mapper;
 
-    // 🔹 LISTAR TODOS
-    public List<AlunoDTO> listarTodos() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDTO)
-                .toList();
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<AlunoDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Aluno::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -49,9 +47,10 @@ public class AlunoService {
 
     // 🔹 ATUALIZAR
     @Transactional
-    public AlunoDTO atualizar(Long id, AlunoDTO dto) {
+    public AlunoDTO atualizar(Long id, AlunoDTO dto, Long versaoEsperada) {
         Aluno aluno = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Aluno não encontrado."));
+        VersaoDivergenteException.verificar(aluno.getVersao(), versaoEsperada);
 
         if (dto.getNome() != null && !dto.getNome().isBlank()) {
             aluno.setNome(dto.getNome());
@@ -79,7 +78,7 @@ public class AlunoService {
             aluno.setStatus(dto.getStatus());
         }
 
-        Aluno atualizado = repository.save(aluno);
+        Aluno atualizado = repository.saveAndFlush(aluno);
         return mapper.toDTO(atualizado);
     }
 
@@ -1,15 +1,15 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.AvaliacaoDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.AvaliacaoMapper;
-import com.faculdade.sgca.domain.avaliacao.TipoAvaliacao;
-import com.faculdade.sgca.domain.avaliacao.impl.Participacao;
-import com.faculdade.sgca.domain.avaliacao.impl.Prova;
-import com.faculdade.sgca.domain.avaliacao.impl.Trabalho;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
+import com.faculdade.sgca.domain.avaliacao.TiposAvaliacao;
 import com.faculdade.sgca.domain.model.Avaliacao;
 import com.faculdade.sgca.infrastructure.repository.AvaliacaoRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,15 +20,14 @@ public class AvaliacaoService {
 
     private final AvaliacaoRepository repository;
     private final AvaliacaoMapper mapper;
+    private final ApplicationEventPublisher eventos;
 
     // ============================================
-    // LISTAR TODAS AS AVALIAÇÕES
+    // LISTAR PAGINADO (KEYSET)
     // ============================================
-    public List<AvaliacaoDTO> listar() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDTO)
-                .toList();
+    public PaginaCursor<AvaliacaoDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Avaliacao::getId, mapper::toDTO);
     }
 
     // ============================================
@@ -57,9 +56,10 @@ public class AvaliacaoService {
         }
 
         Avaliacao entity = mapper.toEntity(dto);
-        entity.setImplementacao(getImplementacao(dto.getTipo()));
+        entity.setImplementacao(TiposAvaliacao.de(dto.getTipo()));
 
         Avaliacao salvo = repository.save(entity);
+        eventos.publishEvent(new PautaAlteradaEvent(salvo.getTurmaId()));
         return mapper.toDTO(salvo);
     }
 
@@ -67,19 +67,25 @@ public class AvaliacaoService {
     // ATUALIZAR AVALIAÇÃO
     // ============================================
     @Transactional
-    public AvaliacaoDTO atualizar(Long id, AvaliacaoDTO dto) {
+    public AvaliacaoDTO atualizar(Long id, AvaliacaoDTO dto, Long versaoEsperada) {
         Avaliacao existente = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Avaliação não encontrada."));
+        VersaoDivergenteException.verificar(existente.getVersao(), versaoEsperada);
 
         validarCampos(dto);
+        Long turmaAnterior = existente.getTurmaId();
 
         existente.setTitulo(dto.getTitulo());
         existente.setPeso(dto.getPeso());
         existente.setTipo(dto.getTipo());
         existente.setTurmaId(dto.getTurmaId());
-        existente.setImplementacao(getImplementacao(dto.getTipo()));
+        existente.setImplementacao(TiposAvaliacao.de(dto.getTipo()));
 
-        Avaliacao atualizado = repository.save(existente);
+        Avaliacao atualizado = repository.saveAndFlush(existente);
+        eventos.publishEvent(new PautaAlteradaEvent(turmaAnterior));
+        if (!turmaAnterior.equals(atualizado.getTurmaId())) {
+            eventos.publishEvent(new PautaAlteradaEvent(atualizado.getTurmaId()));
+        }
         return mapper.toDTO(atualizado);
     }
 
@@ -88,10 +94,10 @@ public class AvaliacaoService {
     // ============================================
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw new RuntimeException("Avaliação não encontrada.");
-        }
-        repository.deleteById(id);
+        Avaliacao avaliacao = repository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Avaliação não encontrada."));
+        repository.delete(avaliacao);
+        eventos.publishEvent(new PautaAlteradaEvent(avaliacao.getTurmaId()));
     }
 
     // ============================================
@@ -111,13 +117,4 @@ public class AvaliacaoService {
             throw new RuntimeException("O campo 'turmaId' é obrigatório.");
         }
     }
-
-    private TipoAvaliacao getImplementacao(String tipo) {
-        return switch (tipo.toUpperCase()) {
-            case "PROVA" -> new Prova();
-            case "TRABALHO" -> new Trabalho();
-            case "PARTICIPACAO" -> new Participacao();
-            default -> throw new RuntimeException("Tipo de avaliação inválido: " + tipo);
-        };
-    }
 }
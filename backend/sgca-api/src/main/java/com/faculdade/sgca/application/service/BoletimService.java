@@ -0,0 +1,71 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.BoletimDTO;
+import com.faculdade.sgca.application.dto.FrequenciaDTO;
+import com.faculdade.sgca.domain.avaliacao.TipoAvaliacao;
+import com.faculdade.sgca.domain.avaliacao.TiposAvaliacao;
+import com.faculdade.sgca.domain.model.Aluno;
+import com.faculdade.sgca.infrastructure.repository.AlunoRepository;
+import com.faculdade.sgca.infrastructure.repository.BoletimJdbcRepository;
+import com.faculdade.sgca.infrastructure.repository.BoletimJdbcRepository.Linha;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Boletim do aluno logado. O aluno é encontrado pelo e-mail do token, e o
+ * resto sai de duas consultas restritas a ele: matrículas × avaliações com
+ * as notas, e os contadores de frequência. A média final usa as mesmas
+ * regras por tipo de avaliação da pauta da turma.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoletimService {
+
+    private final AlunoRepository alunoRepository;
+    private final BoletimJdbcRepository repository;
+    private final FrequenciaService frequenciaService;
+
+    // ============================================================
+    // 🔹 BOLETIM DO USUÁRIO AUTENTICADO
+    // ============================================================
+    public BoletimDTO buscarPorEmail(String email) {
+        Aluno aluno = Optional.ofNullable(email)
+                .flatMap(alunoRepository::findByEmail)
+                .orElseThrow(() -> new IllegalArgumentException("Nenhum aluno vinculado ao usuário autenticado."));
+
+        Map<Long, FrequenciaDTO> frequencias = frequenciaService.buscarPorAluno(aluno.getId()).stream()
+                .collect(Collectors.toMap(FrequenciaDTO::getMatriculaId, Function.identity()));
+
+        Map<Long, BoletimDTO.Matricula> matriculas = new LinkedHashMap<>();
+        for (Linha l : repository.buscarLinhas(aluno.getId())) {
+            BoletimDTO.Matricula matricula = matriculas.computeIfAbsent(l.matriculaId(),
+                    id -> new BoletimDTO.Matricula(id, l.situacao(), l.turmaId(), l.periodo(),
+                            l.disciplinaId(), l.disciplina(), l.cursoId(), l.curso(),
+                            new ArrayList<>(), 0, 0, frequencias.get(id)));
+            if (l.avaliacaoId() == null) {
+                continue;
+            }
+
+            matricula.getNotas().add(new BoletimDTO.Nota(l.avaliacaoId(), l.titulo(), l.tipo(), l.peso(),
+                    l.valor(), l.lancadaEm()));
+            matricula.setSomaPesos(matricula.getSomaPesos() + l.peso());
+            if (l.valor() != null) {
+                TipoAvaliacao regra = TiposAvaliacao.buscar(l.tipo())
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Avaliação " + l.avaliacaoId() + " com tipo inválido: " + l.tipo()));
+                matricula.setNotaFinal(matricula.getNotaFinal() + regra.calcularNotaFinal(l.valor(), l.peso()));
+            }
+        }
+
+        for (BoletimDTO.Matricula matricula : matriculas.values()) {
+            matricula.setNotaFinal(Math.round(matricula.getNotaFinal() * 100) / 100.0);
+        }
+
+        return new BoletimDTO(aluno.getId(), aluno.getNome(), new ArrayList<>(matriculas.values()), Instant.now());
+    }
+}
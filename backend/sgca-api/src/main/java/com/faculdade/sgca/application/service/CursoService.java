@@ -1,6 +1,7 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.CursoDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.CursoMapper;
 import com.faculdade.sgca.domain.model.Curso;
 import com.faculdade.sgca.infrastructure.repository.CursoRepository;
@@ -8,7 +9,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,12 +17,10 @@ public class CursoService {
     private final CursoRepository repository;
     private final CursoMapper mapper;
 
-    // 🔹 LISTAR TODOS
-    public List<CursoDTO> listarTodos() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDTO)
-                .toList();
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<CursoDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Curso::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -46,9 +44,10 @@ public class CursoService {
 
     // 🔹 ATUALIZAR CURSO
     @Transactional
-    public CursoDTO atualizar(Long id, CursoDTO dto) {
+    public CursoDTO atualizar(Long id, CursoDTO dto, Long versaoEsperada) {
         Curso curso = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Curso não encontrado."));
+        VersaoDivergenteException.verificar(curso.getVersao(), versaoEsperada);
 
         if (dto.getCodigo() != null && !dto.getCodigo().isBlank()) {
             if (!dto.getCodigo().equalsIgnoreCase(curso.getCodigo())
@@ -70,7 +69,7 @@ public class CursoService {
             curso.setCargaHoraria(dto.getCargaHoraria());
         }
 
-        Curso atualizado = repository.save(curso);
+        Curso atualizado = repository.saveAndFlush(curso);
         return mapper.toDTO(atualizado);
     }
 
@@ -0,0 +1,184 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.DashboardResumoDTO;
+import com.faculdade.sgca.domain.model.PerfilUsuario;
+import com.faculdade.sgca.infrastructure.repository.*;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Contagens dos painéis. Em vez de baixar as listas inteiras para contar no
+ * navegador, cada número sai de um {@code count} ou {@code GROUP BY} no banco,
+ * e as consultas rodam em paralelo num pool pequeno.
+ * <p>
+ * O resultado fica num cache de uma entrada só: passado o prazo de
+ * atualização, o próximo pedido ainda recebe o valor guardado e dispara o
+ * recálculo em segundo plano. Só espera pelo banco quem chega com o cache
+ * vazio ou com o valor já expirado.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    private static final String CHAVE = "resumo";
+
+    private final AlunoRepository alunoRepository;
+    private final CursoRepository cursoRepository;
+    private final DisciplinaRepository disciplinaRepository;
+    private final TurmaRepository turmaRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final AvaliacaoRepository avaliacaoRepository;
+    private final UsuarioRepository usuarioRepository;
+
+    private final ThreadPoolExecutor pool;
+    private final AsyncLoadingCache<String, DashboardResumoDTO> resumo;
+    private final MeterRegistry meterRegistry;
+
+    public DashboardService(AlunoRepository alunoRepository,
+                            CursoRepository cursoRepository,
+                            DisciplinaRepository disciplinaRepository,
+                            TurmaRepository turmaRepository,
+                            MatriculaRepository matriculaRepository,
+                            AvaliacaoRepository avaliacaoRepository,
+                            UsuarioRepository usuarioRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${sgca.dashboard.threads:4}") int threads,
+                            @Value("${sgca.dashboard.atualizar-segundos:30}") long atualizarSegundos,
+                            @Value("${sgca.dashboard.expirar-segundos:300}") long expirarSegundos) {
+        this.alunoRepository = alunoRepository;
+        this.cursoRepository = cursoRepository;
+        this.disciplinaRepository = disciplinaRepository;
+        this.turmaRepository = turmaRepository;
+        this.matriculaRepository = matriculaRepository;
+        this.avaliacaoRepository = avaliacaoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.meterRegistry = meterRegistry;
+
+        // uma rodada são poucas consultas; se a fila encher, quem pediu executa a sua
+        this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(32),
+                new NomeadorThreads(),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.resumo = Caffeine.newBuilder()
+                .refreshAfterWrite(Duration.ofSeconds(atualizarSegundos))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(expirarSegundos, atualizarSegundos)))
+                .recordStats()
+                .buildAsync((chave, executor) -> calcular());
+        CaffeineCacheMetrics.monitor(meterRegistry, resumo.synchronous(), "dashboard");
+    }
+
+    // ============================================================
+    // 🔹 RESUMO (DO CACHE)
+    // ============================================================
+    public DashboardResumoDTO resumo() {
+        try {
+            return resumo.get(CHAVE).join();
+        } catch (CompletionException e) {
+            log.error("Falha ao calcular o resumo do dashboard", e.getCause());
+            throw new IllegalStateException("Não foi possível calcular o resumo agora. Tente novamente em instantes.");
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+
+    // ============================================================
+    // 🔹 CÁLCULO (CONSULTAS EM PARALELO)
+    // ============================================================
+    private CompletableFuture<DashboardResumoDTO> calcular() {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+
+        Map<String, CompletableFuture<Long>> totais = new LinkedHashMap<>();
+        totais.put("alunos", contar(alunoRepository));
+        totais.put("cursos", contar(cursoRepository));
+        totais.put("disciplinas", contar(disciplinaRepository));
+        totais.put("turmas", contar(turmaRepository));
+        totais.put("matriculas", contar(matriculaRepository));
+        totais.put("avaliacoes", contar(avaliacaoRepository));
+        totais.put("usuarios", contar(usuarioRepository));
+        CompletableFuture<List<Object[]>> porPeriodo = noPool(matriculaRepository::contarAtivasPorPeriodo);
+        CompletableFuture<List<Object[]>> porPerfil = noPool(usuarioRepository::contarPorPerfil);
+
+        List<CompletableFuture<?>> consultas = new ArrayList<>(totais.values());
+        consultas.add(porPeriodo);
+        consultas.add(porPerfil);
+        return CompletableFuture.allOf(consultas.toArray(CompletableFuture[]::new))
+                .thenApply(ignorado -> {
+                    Map<String, Long> contagens = new LinkedHashMap<>();
+                    totais.forEach((entidade, total) -> contagens.put(entidade, total.join()));
+                    return new DashboardResumoDTO(contagens, agrupado(porPeriodo.join()),
+                            perfis(porPerfil.join()), Instant.now());
+                })
+                .whenComplete((dto, erro) -> amostra.stop(Timer.builder("sgca.dashboard.calculo")
+                        .description("Tempo para recalcular as contagens do dashboard")
+                        .tag("status", erro == null ? "ok" : "erro")
+                        .register(meterRegistry)));
+    }
+
+    private CompletableFuture<Long> contar(CrudRepository<?, ?> repository) {
+        return noPool(repository::count);
+    }
+
+    private <T> CompletableFuture<T> noPool(Supplier<T> consulta) {
+        return CompletableFuture.supplyAsync(consulta, pool);
+    }
+
+    // ============================================================
+    // 🔹 AUXILIARES
+    // ============================================================
+    private static Map<String, Long> agrupado(List<Object[]> linhas) {
+        Map<String, Long> mapa = new LinkedHashMap<>();
+        for (Object[] linha : linhas) {
+            mapa.put(String.valueOf(linha[0]), ((Number) linha[1]).longValue());
+        }
+        return mapa;
+    }
+
+    // todos os perfis aparecem, mesmo os que ainda não têm usuário
+    private static Map<String, Long> perfis(List<Object[]> linhas) {
+        Map<String, Long> mapa = new LinkedHashMap<>();
+        for (PerfilUsuario perfil : PerfilUsuario.values()) {
+            mapa.put(perfil.name(), 0L);
+        }
+        for (Object[] linha : linhas) {
+            if (linha[0] != null) {
+                mapa.put(((PerfilUsuario) linha[0]).name(), ((Number) linha[1]).longValue());
+            }
+        }
+        return mapa;
+    }
+
+    private static final class NomeadorThreads implements ThreadFactory {
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "dashboard-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
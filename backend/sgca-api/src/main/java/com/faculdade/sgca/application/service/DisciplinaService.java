@@ -1,6 +1,7 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.DisciplinaDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.DisciplinaMapper;
 import com.faculdade.sgca.domain.model.Curso;
 import com.faculdade.sgca.domain.model.Disciplina;
@@ -20,12 +21,10 @@ public class DisciplinaService {
     private final CursoRepository cursoRepository;
     private final DisciplinaMapper mapper;
 
-    // 🔹 LISTAR TODAS
-    public List<DisciplinaDTO> listarTodas() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDTO)
-                .toList();
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<DisciplinaDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Disciplina::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -62,9 +61,10 @@ public class DisciplinaService {
 
     // 🔹 ATUALIZAR
     @Transactional
-    public DisciplinaDTO atualizar(Long id, DisciplinaDTO dto) {
+    public DisciplinaDTO atualizar(Long id, DisciplinaDTO dto, Long versaoEsperada) {
         Disciplina disciplina = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Disciplina não encontrada."));
+        VersaoDivergenteException.verificar(disciplina.getVersao(), versaoEsperada);
 
         if (dto.getCodigo() != null && !dto.getCodigo().isBlank()) {
             if (!dto.getCodigo().equalsIgnoreCase(disciplina.getCodigo()) &&
@@ -88,7 +88,7 @@ public class DisciplinaService {
             disciplina.setCurso(curso);
         }
 
-        Disciplina atualizada = repository.save(disciplina);
+        Disciplina atualizada = repository.saveAndFlush(disciplina);
         return mapper.toDTO(atualizada);
     }
 
@@ -0,0 +1,138 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.MatriculaDTO;
+import com.faculdade.sgca.application.dto.NotaDTO;
+import com.faculdade.sgca.application.dto.PresencaDTO;
+import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
+import com.faculdade.sgca.infrastructure.repository.NotaRepository;
+import com.faculdade.sgca.infrastructure.repository.PresencaRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exporta notas, presenças e matrículas linha a linha direto para a resposta.
+ * As consultas devolvem {@link Stream} com fetch size no JDBC, então a memória
+ * usada não depende do volume exportado.
+ * <p>
+ * Em CBOR e Smile as linhas saem como uma sequência de valores do formato,
+ * com os mesmos mappers dos conversores HTTP (mesma forma do JSON).
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportacaoService {
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final NotaRepository notaRepository;
+    private final PresencaRepository presencaRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final ObjectMapper objectMapper;
+    private final MappingJackson2CborHttpMessageConverter conversorCbor;
+    private final MappingJackson2SmileHttpMessageConverter conversorSmile;
+
+    // ============================================================
+    // 🔹 EXPORTAÇÕES
+    // ============================================================
+    // readOnly + transação aberta: o driver do PostgreSQL só usa cursor (fetch size) fora do autocommit
+    @Transactional(readOnly = true)
+    public void exportarNotas(Long turmaId, String periodo, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<NotaDTO> linhas = notaRepository.streamParaExportacao(turmaId, periodo)) {
+            escrever(linhas, formato, saida,
+                    "id,avaliacaoId,matriculaId,valor,data",
+                    n -> new Object[]{n.getId(), n.getAvaliacaoId(), n.getMatriculaId(), n.getValor(), n.getData()});
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarPresencas(Long turmaId, String periodo, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<PresencaDTO> linhas = presencaRepository.streamParaExportacao(turmaId, periodo)) {
+            escrever(linhas, formato, saida,
+                    "id,turmaId,matriculaId,dataAula,presente",
+                    p -> new Object[]{p.getId(), p.getTurmaId(), p.getMatriculaId(), p.getDataAula(), p.isPresente()});
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportarMatriculas(Long turmaId, String periodo, FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<MatriculaDTO> linhas = matriculaRepository.streamParaExportacao(turmaId, periodo)) {
+            escrever(linhas, formato, saida,
+                    "id,alunoId,turmaId,data,situacao",
+                    m -> new Object[]{m.getId(), m.getAlunoId(), m.getTurmaId(), m.getData(), m.getSituacao()});
+        }
+    }
+
+    // ============================================================
+    // 🔹 ESCRITA POR FORMATO
+    // ============================================================
+    private <T> void escrever(Stream<T> linhas, FormatoExportacao formato, OutputStream saida,
+                              String cabecalhoCsv, Function<T, Object[]> colunas) throws IOException {
+        OutputStream buffer = new BufferedOutputStream(saida, TAMANHO_BUFFER);
+        switch (formato) {
+            case NDJSON -> escreverSequencia(objectMapper, linhas.iterator(), buffer, true);
+            case CSV -> escreverCsv(linhas.iterator(), buffer, cabecalhoCsv, colunas);
+            case CBOR -> escreverSequencia(conversorCbor.getObjectMapper(), linhas.iterator(), buffer, false);
+            case SMILE -> escreverSequencia(conversorSmile.getObjectMapper(), linhas.iterator(), buffer, false);
+        }
+        buffer.flush();
+    }
+
+    // NDJSON separa as linhas com '\n'; nos formatos binários cada valor já delimita a si mesmo
+    private <T> void escreverSequencia(ObjectMapper mapper, Iterator<T> linhas, OutputStream saida,
+                                       boolean quebraDeLinha) throws IOException {
+        // sem flush por linha: quem decide quando mandar bytes para a rede é o buffer
+        ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gerador = mapper.getFactory().createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // o gerador separa valores de raiz com " " por padrão: no NDJSON a linha começaria com espaço
+            gerador.setRootValueSeparator(null);
+            while (linhas.hasNext()) {
+                writer.writeValue(gerador, linhas.next());
+                if (quebraDeLinha) {
+                    gerador.writeRaw('\n');
+                }
+            }
+        }
+    }
+
+    private <T> void escreverCsv(Iterator<T> linhas, OutputStream saida,
+                                 String cabecalho, Function<T, Object[]> colunas) throws IOException {
+        Writer writer = new OutputStreamWriter(saida, StandardCharsets.UTF_8);
+        writer.write(cabecalho);
+        writer.write('\n');
+        while (linhas.hasNext()) {
+            Object[] valores = colunas.apply(linhas.next());
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(campoCsv(valores[i]));
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static String campoCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+}
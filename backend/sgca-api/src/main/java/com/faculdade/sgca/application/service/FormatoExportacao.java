@@ -0,0 +1,88 @@
+package com.faculdade.sgca.application.service;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo aceitos na exportação e na importação em streaming.
+ * CBOR (sequência RFC 8742) e Smile são só de exportação.
+ */
+public enum FormatoExportacao {
+
+    NDJSON("application/x-ndjson", "ndjson", true),
+    CSV("text/csv; charset=UTF-8", "csv", true),
+    CBOR("application/cbor-seq", "cbor", false),
+    SMILE("application/x-jackson-smile", "sml", false);
+
+    private final String contentType;
+    private final String extensao;
+    private final boolean importavel;
+
+    FormatoExportacao(String contentType, String extensao, boolean importavel) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+        this.importavel = importavel;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public static FormatoExportacao de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Formato inválido: " + valor + ". Use ndjson, csv, cbor ou smile.");
+        }
+    }
+
+    /**
+     * Formato pedido no parâmetro ou, sem ele, o primeiro tipo do Accept que
+     * corresponde a um formato. Curingas e tipos desconhecidos (como o
+     * application/json dos clientes HTTP) ficam no NDJSON.
+     */
+    public static FormatoExportacao de(String valor, String accept) {
+        if (valor != null && !valor.isBlank()) {
+            return de(valor);
+        }
+        if (accept != null && !accept.isBlank()) {
+            for (MediaType tipo : MediaType.parseMediaTypes(accept)) {
+                if (tipo.isWildcardType()) {
+                    continue;
+                }
+                for (FormatoExportacao formato : values()) {
+                    if (formato.aceita(tipo)) {
+                        return formato;
+                    }
+                }
+            }
+        }
+        return NDJSON;
+    }
+
+    public static FormatoExportacao paraImportacao(String valor) {
+        FormatoExportacao formato;
+        try {
+            formato = de(valor);
+        } catch (IllegalArgumentException e) {
+            formato = null;
+        }
+        if (formato == null || !formato.importavel) {
+            throw new IllegalArgumentException("Formato inválido para importação: " + valor + ". Use ndjson ou csv.");
+        }
+        return formato;
+    }
+
+    private boolean aceita(MediaType tipo) {
+        return MediaType.parseMediaType(contentType).isCompatibleWith(tipo)
+                || this == CBOR && MediaType.APPLICATION_CBOR.isCompatibleWith(tipo);
+    }
+}
@@ -0,0 +1,119 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.FrequenciaDTO;
+import com.faculdade.sgca.infrastructure.repository.AlunoRepository;
+import com.faculdade.sgca.infrastructure.repository.FrequenciaJdbcRepository;
+import com.faculdade.sgca.infrastructure.repository.FrequenciaMatriculaRepository;
+import com.faculdade.sgca.infrastructure.repository.TurmaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Frequência por matrícula lida dos contadores mantidos pelo
+ * {@link PresencaService}, sem contar presenças a cada consulta.
+ * A reconciliação reconstrói os contadores a partir da tabela presenca,
+ * uma turma por transação, e corrige o que divergiu (escritas feitas fora
+ * da API, dados anteriores aos contadores).
+ */
+@Slf4j
+@Service
+public class FrequenciaService {
+
+    private final FrequenciaMatriculaRepository repository;
+    private final FrequenciaJdbcRepository jdbcRepository;
+    private final TurmaRepository turmaRepository;
+    private final AlunoRepository alunoRepository;
+    private final TransactionTemplate transacao;
+    private final double frequenciaMinima;
+    private final Counter corrigidos;
+
+    private final AtomicBoolean reconciliando = new AtomicBoolean();
+
+    public FrequenciaService(FrequenciaMatriculaRepository repository,
+                             FrequenciaJdbcRepository jdbcRepository,
+                             TurmaRepository turmaRepository,
+                             AlunoRepository alunoRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${sgca.frequencia.minima:75}") double frequenciaMinima) {
+        this.repository = repository;
+        this.jdbcRepository = jdbcRepository;
+        this.turmaRepository = turmaRepository;
+        this.alunoRepository = alunoRepository;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.frequenciaMinima = frequenciaMinima;
+        this.corrigidos = Counter.builder("sgca.frequencia.reconciliacao.corrigidos")
+                .description("Contadores de frequência corrigidos pela reconciliação")
+                .register(meterRegistry);
+    }
+
+    // ============================================================
+    // 🔹 CONSULTAS
+    // ============================================================
+    public List<FrequenciaDTO> buscarPorTurma(Long turmaId) {
+        List<FrequenciaDTO> frequencias = repository.findPorTurma(turmaId);
+        if (frequencias.isEmpty() && !turmaRepository.existsById(turmaId)) {
+            throw new IllegalArgumentException("Turma não encontrada.");
+        }
+        return marcarMinimo(frequencias);
+    }
+
+    public List<FrequenciaDTO> buscarPorAluno(Long alunoId) {
+        List<FrequenciaDTO> frequencias = repository.findPorAluno(alunoId);
+        if (frequencias.isEmpty() && !alunoRepository.existsById(alunoId)) {
+            throw new IllegalArgumentException("Aluno não encontrado.");
+        }
+        return marcarMinimo(frequencias);
+    }
+
+    private List<FrequenciaDTO> marcarMinimo(List<FrequenciaDTO> frequencias) {
+        frequencias.forEach(f -> f.setAbaixoDoMinimo(f.getPercentual() != null && f.getPercentual() < frequenciaMinima));
+        return frequencias;
+    }
+
+    // ============================================================
+    // 🔹 RECONCILIAÇÃO
+    // ============================================================
+    @Scheduled(cron = "${sgca.frequencia.reconciliacao.cron:0 30 3 * * *}")
+    public void reconciliarAgendado() {
+        try {
+            reconciliar();
+        } catch (IllegalStateException e) {
+            log.info("Reconciliação de frequência agendada ignorada: já existe uma em andamento.");
+        }
+    }
+
+    /**
+     * @return turmas verificadas e contadores corrigidos
+     */
+    public Map<String, Integer> reconciliar() {
+        if (!reconciliando.compareAndSet(false, true)) {
+            throw new IllegalStateException("Já existe uma reconciliação de frequência em andamento.");
+        }
+        try {
+            List<Long> turmas = jdbcRepository.turmasComFrequencia();
+            int total = 0;
+            for (Long turmaId : turmas) {
+                Integer corrigidosTurma = transacao.execute(s -> jdbcRepository.reconciliarTurma(turmaId));
+                total += corrigidosTurma != null ? corrigidosTurma : 0;
+            }
+            corrigidos.increment(total);
+            if (total > 0) {
+                log.warn("Reconciliação de frequência corrigiu {} contadores em {} turmas.", total, turmas.size());
+            }
+            return Map.of("turmasVerificadas", turmas.size(), "contadoresCorrigidos", total);
+        } finally {
+            reconciliando.set(false);
+        }
+    }
+}
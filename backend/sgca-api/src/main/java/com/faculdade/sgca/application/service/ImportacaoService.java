@@ -0,0 +1,428 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.ImportacaoJobDTO;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
+import com.faculdade.sgca.application.mapper.ImportacaoJobMapper;
+import com.faculdade.sgca.domain.model.ImportacaoJob;
+import com.faculdade.sgca.infrastructure.repository.*;
+import com.faculdade.sgca.infrastructure.repository.ImportacaoJdbcRepository.AlunoNovo;
+import com.faculdade.sgca.infrastructure.repository.ImportacaoJdbcRepository.MatriculaNova;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Importação de alunos e matrículas em streaming. O corpo da requisição é lido
+ * linha a linha e processado em blocos: cada bloco valida duplicidades e
+ * referências com poucas consultas por conjunto, grava com lote JDBC e
+ * confirma junto com o progresso da importação. Se a conexão cair no meio,
+ * basta reenviar o mesmo arquivo com {@code retomar=<id>}: as linhas já
+ * confirmadas são puladas. As linhas rejeitadas vão para um CSV em disco.
+ */
+@Slf4j
+@Service
+public class ImportacaoService {
+
+    private record Rejeicao(long linha, String motivo, String conteudo) {
+    }
+
+    private final ImportacaoJobRepository jobRepository;
+    private final ImportacaoJdbcRepository jdbcRepository;
+    private final AlunoRepository alunoRepository;
+    private final TurmaRepository turmaRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final VagaService vagaService;
+    private final ImportacaoJobMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventos;
+    private final TransactionTemplate transacao;
+    private final int tamanhoBloco;
+    private final Path diretorio;
+
+    // importações sendo processadas neste nó (evita duas retomadas simultâneas do mesmo job)
+    private final Set<Long> emAndamento = ConcurrentHashMap.newKeySet();
+
+    public ImportacaoService(ImportacaoJobRepository jobRepository,
+                             ImportacaoJdbcRepository jdbcRepository,
+                             AlunoRepository alunoRepository,
+                             TurmaRepository turmaRepository,
+                             MatriculaRepository matriculaRepository,
+                             VagaService vagaService,
+                             ImportacaoJobMapper mapper,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventos,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${sgca.importacao.tamanho-bloco:500}") int tamanhoBloco,
+                             @Value("${sgca.importacao.diretorio:${java.io.tmpdir}/sgca-importacoes}") String diretorio) {
+        this.jobRepository = jobRepository;
+        this.jdbcRepository = jdbcRepository;
+        this.alunoRepository = alunoRepository;
+        this.turmaRepository = turmaRepository;
+        this.matriculaRepository = matriculaRepository;
+        this.vagaService = vagaService;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.eventos = eventos;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.tamanhoBloco = tamanhoBloco;
+        this.diretorio = Paths.get(diretorio);
+    }
+
+    // ============================================================
+    // 🔹 ENTRADAS
+    // ============================================================
+    public ImportacaoJobDTO importarAlunos(InputStream entrada, String formato, Long retomar) {
+        return importar(ImportacaoJob.TIPO_ALUNOS, entrada, formato, retomar, this::processarAlunos);
+    }
+
+    public ImportacaoJobDTO importarMatriculas(InputStream entrada, String formato, Long retomar) {
+        return importar(ImportacaoJob.TIPO_MATRICULAS, entrada, formato, retomar, this::processarMatriculas);
+    }
+
+    public ImportacaoJobDTO buscar(Long id) {
+        return jobRepository.findById(id)
+                .map(mapper::toDTO)
+                .orElseThrow(() -> new IllegalArgumentException("Importação não encontrada."));
+    }
+
+    /**
+     * Arquivo CSV com as linhas rejeitadas (linha, motivo, conteúdo original).
+     */
+    public Path arquivoRejeitados(Long id) {
+        if (!jobRepository.existsById(id)) {
+            throw new IllegalArgumentException("Importação não encontrada.");
+        }
+        Path arquivo = caminhoRejeitados(id);
+        if (!Files.exists(arquivo)) {
+            throw new IllegalArgumentException("Esta importação não tem linhas rejeitadas.");
+        }
+        return arquivo;
+    }
+
+    // ============================================================
+    // 🔹 LAÇO PRINCIPAL (UM BLOCO POR TRANSAÇÃO)
+    // ============================================================
+    private ImportacaoJobDTO importar(String tipo, InputStream entrada, String formato, Long retomar,
+                                      BiFunction<List<LeitorImportacao.Registro>, List<Rejeicao>, Integer> processador) {
+        FormatoExportacao tipoArquivo = FormatoExportacao.paraImportacao(formato);
+        ImportacaoJob job = retomar == null ? novoJob(tipo, tipoArquivo) : jobParaRetomar(retomar, tipo, tipoArquivo);
+        Long id = job.getId();
+
+        if (!emAndamento.add(id)) {
+            throw new IllegalStateException("A importação " + id + " já está em andamento.");
+        }
+        try (LeitorImportacao leitor = new LeitorImportacao(entrada, tipoArquivo, objectMapper)) {
+            atualizarStatus(id, ImportacaoJob.PROCESSANDO, null);
+            leitor.pularAte(job.getLinhasLidas());
+
+            List<LeitorImportacao.Registro> bloco = new ArrayList<>(tamanhoBloco);
+            LeitorImportacao.Registro registro;
+            while ((registro = leitor.proximo()) != null) {
+                bloco.add(registro);
+                if (bloco.size() == tamanhoBloco) {
+                    confirmarBloco(id, bloco, leitor.linhaAtual(), processador);
+                    bloco.clear();
+                }
+            }
+            // o fim do arquivo também avança a posição (linhas em branco finais)
+            confirmarBloco(id, bloco, leitor.linhaAtual(), processador);
+            atualizarStatus(id, ImportacaoJob.CONCLUIDA, null);
+        } catch (IllegalArgumentException e) {
+            atualizarStatus(id, ImportacaoJob.INTERROMPIDA, e.getMessage());
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Importação {} interrompida: {}", id, e.getMessage());
+            atualizarStatus(id, ImportacaoJob.INTERROMPIDA, resumir(e));
+        } finally {
+            emAndamento.remove(id);
+        }
+        return buscar(id);
+    }
+
+    private void confirmarBloco(Long id, List<LeitorImportacao.Registro> bloco, long linhasLidas,
+                                BiFunction<List<LeitorImportacao.Registro>, List<Rejeicao>, Integer> processador)
+            throws IOException {
+        List<Rejeicao> rejeicoes = new ArrayList<>();
+        transacao.executeWithoutResult(status -> {
+            int importadas = bloco.isEmpty() ? 0 : processador.apply(bloco, rejeicoes);
+            jobRepository.registrarBloco(id, linhasLidas, importadas, rejeicoes.size(), Instant.now());
+        });
+        // só depois do commit: um bloco desfeito não deixa rejeições duplicadas no relatório
+        gravarRejeicoes(id, rejeicoes);
+    }
+
+    // ============================================================
+    // 🔹 BLOCO DE ALUNOS
+    // ============================================================
+    private int processarAlunos(List<LeitorImportacao.Registro> bloco, List<Rejeicao> rejeicoes) {
+        record Candidato(LeitorImportacao.Registro registro, AlunoNovo aluno) {
+        }
+
+        List<Candidato> candidatos = new ArrayList<>(bloco.size());
+        Set<String> cpfsNoBloco = new HashSet<>();
+        Set<String> emailsNoBloco = new HashSet<>();
+
+        for (LeitorImportacao.Registro r : bloco) {
+            if (r.erro() != null) {
+                rejeicoes.add(rejeitar(r, r.erro()));
+                continue;
+            }
+            String nome = r.campo("nome");
+            String email = r.campo("email");
+            String cpf = r.campo("cpf");
+            String status = Optional.ofNullable(r.campo("status")).orElse("ATIVO");
+
+            String erro = null;
+            LocalDate nascimento = null;
+            if (nome == null) {
+                erro = "O campo 'nome' é obrigatório.";
+            } else if (nome.length() > 120 || (email != null && email.length() > 100)
+                    || (cpf != null && cpf.length() > 14) || status.length() > 20) {
+                erro = "Campo acima do tamanho permitido.";
+            } else {
+                try {
+                    String data = r.campo("dataNascimento");
+                    nascimento = data == null ? null : LocalDate.parse(data);
+                } catch (DateTimeParseException e) {
+                    erro = "Data de nascimento inválida (use AAAA-MM-DD).";
+                }
+            }
+            if (erro == null && cpf != null && !cpfsNoBloco.add(cpf)) {
+                erro = "CPF repetido no arquivo.";
+            }
+            if (erro == null && email != null && !emailsNoBloco.add(email)) {
+                erro = "E-mail repetido no arquivo.";
+            }
+
+            if (erro != null) {
+                rejeicoes.add(rejeitar(r, erro));
+            } else {
+                candidatos.add(new Candidato(r, new AlunoNovo(nome, email, cpf, nascimento, status)));
+            }
+        }
+
+        // 🧩 Duas consultas por bloco em vez de duas por aluno
+        Set<String> cpfsExistentes = cpfsNoBloco.isEmpty()
+                ? Set.of() : new HashSet<>(alunoRepository.findCpfsExistentes(cpfsNoBloco));
+        Set<String> emailsExistentes = emailsNoBloco.isEmpty()
+                ? Set.of() : new HashSet<>(alunoRepository.findEmailsExistentes(emailsNoBloco));
+
+        List<AlunoNovo> novos = new ArrayList<>(candidatos.size());
+        for (Candidato c : candidatos) {
+            AlunoNovo aluno = c.aluno();
+            if (aluno.cpf() != null && cpfsExistentes.contains(aluno.cpf())) {
+                rejeicoes.add(rejeitar(c.registro(), "CPF já cadastrado."));
+            } else if (aluno.email() != null && emailsExistentes.contains(aluno.email())) {
+                rejeicoes.add(rejeitar(c.registro(), "E-mail já cadastrado."));
+            } else {
+                novos.add(aluno);
+            }
+        }
+
+        if (!novos.isEmpty()) {
+            jdbcRepository.inserirAlunos(novos);
+        }
+        return novos.size();
+    }
+
+    // ============================================================
+    // 🔹 BLOCO DE MATRÍCULAS
+    // ============================================================
+    private int processarMatriculas(List<LeitorImportacao.Registro> bloco, List<Rejeicao> rejeicoes) {
+        record Candidata(LeitorImportacao.Registro registro, Long alunoId, String alunoCpf,
+                         Long turmaId, LocalDate data, String situacao) {
+        }
+
+        List<Candidata> candidatas = new ArrayList<>(bloco.size());
+        Set<Long> alunoIds = new HashSet<>();
+        Set<String> alunoCpfs = new HashSet<>();
+        Set<Long> turmaIds = new HashSet<>();
+
+        for (LeitorImportacao.Registro r : bloco) {
+            if (r.erro() != null) {
+                rejeicoes.add(rejeitar(r, r.erro()));
+                continue;
+            }
+            try {
+                Long alunoId = r.campo("alunoId") == null ? null : Long.valueOf(r.campo("alunoId"));
+                String alunoCpf = r.campo("alunoCpf");
+                Long turmaId = r.campo("turmaId") == null ? null : Long.valueOf(r.campo("turmaId"));
+                LocalDate data = r.campo("data") == null ? LocalDate.now() : LocalDate.parse(r.campo("data"));
+                String situacao = Optional.ofNullable(r.campo("situacao")).orElse("ATIVA");
+
+                if (alunoId == null && alunoCpf == null) {
+                    rejeicoes.add(rejeitar(r, "Informe 'alunoId' ou 'alunoCpf'."));
+                } else if (turmaId == null) {
+                    rejeicoes.add(rejeitar(r, "O campo 'turmaId' é obrigatório."));
+                } else if (situacao.length() > 20) {
+                    rejeicoes.add(rejeitar(r, "Campo acima do tamanho permitido."));
+                } else {
+                    candidatas.add(new Candidata(r, alunoId, alunoCpf, turmaId, data, situacao));
+                    if (alunoId != null) {
+                        alunoIds.add(alunoId);
+                    } else {
+                        alunoCpfs.add(alunoCpf);
+                    }
+                    turmaIds.add(turmaId);
+                }
+            } catch (NumberFormatException e) {
+                rejeicoes.add(rejeitar(r, "Identificador numérico inválido."));
+            } catch (DateTimeParseException e) {
+                rejeicoes.add(rejeitar(r, "Data inválida (use AAAA-MM-DD)."));
+            }
+        }
+        if (candidatas.isEmpty()) {
+            return 0;
+        }
+
+        // 🧩 Referências resolvidas por conjunto: alunos, CPFs, turmas e pares já matriculados
+        Set<Long> alunosExistentes = new HashSet<>();
+        if (!alunoIds.isEmpty()) {
+            alunosExistentes.addAll(alunoRepository.findIdsExistentes(alunoIds));
+        }
+        Map<String, Long> idPorCpf = new HashMap<>();
+        if (!alunoCpfs.isEmpty()) {
+            for (Object[] linha : alunoRepository.findIdsPorCpf(alunoCpfs)) {
+                idPorCpf.put((String) linha[0], (Long) linha[1]);
+            }
+        }
+        Set<Long> turmasExistentes = new HashSet<>(turmaRepository.findIdsExistentes(turmaIds));
+
+        Set<Long> todosAlunos = new HashSet<>(alunosExistentes);
+        todosAlunos.addAll(idPorCpf.values());
+        Set<List<Long>> pares = new HashSet<>();
+        if (!todosAlunos.isEmpty() && !turmasExistentes.isEmpty()) {
+            for (Object[] par : matriculaRepository.findParesExistentes(todosAlunos, turmasExistentes)) {
+                pares.add(List.of((Long) par[0], (Long) par[1]));
+            }
+        }
+
+        List<MatriculaNova> novas = new ArrayList<>(candidatas.size());
+        List<LeitorImportacao.Registro> origens = new ArrayList<>(candidatas.size());
+        for (Candidata c : candidatas) {
+            Long alunoId = c.alunoId() != null
+                    ? (alunosExistentes.contains(c.alunoId()) ? c.alunoId() : null)
+                    : idPorCpf.get(c.alunoCpf());
+            if (alunoId == null) {
+                rejeicoes.add(rejeitar(c.registro(), "Aluno não encontrado."));
+            } else if (!turmasExistentes.contains(c.turmaId())) {
+                rejeicoes.add(rejeitar(c.registro(), "Turma não encontrada."));
+            } else if (!pares.add(List.of(alunoId, c.turmaId()))) {
+                // já existia no banco ou apareceu antes no mesmo bloco
+                rejeicoes.add(rejeitar(c.registro(), "O aluno já está matriculado nesta turma."));
+            } else {
+                novas.add(new MatriculaNova(alunoId, c.turmaId(), c.data(), c.situacao()));
+                origens.add(c.registro());
+            }
+        }
+
+        // 🧩 Vagas: as ATIVAS de cada turma entram na ordem do arquivo até lotar; as demais são rejeitadas.
+        // Uma reserva por turma, em ordem de id, para as travas serem sempre tomadas na mesma ordem.
+        Map<Long, Integer> vagas = new TreeMap<>();
+        for (MatriculaNova m : novas) {
+            if (VagaService.ocupaVaga(m.situacao())) {
+                vagas.merge(m.turmaId(), 1, Integer::sum);
+            }
+        }
+        vagas.replaceAll(vagaService::reservar);
+
+        List<MatriculaNova> aceitas = new ArrayList<>(novas.size());
+        for (int i = 0; i < novas.size(); i++) {
+            MatriculaNova m = novas.get(i);
+            if (VagaService.ocupaVaga(m.situacao()) && vagas.merge(m.turmaId(), -1, Integer::sum) < 0) {
+                rejeicoes.add(rejeitar(origens.get(i), "Turma sem vagas disponíveis."));
+            } else {
+                aceitas.add(m);
+            }
+        }
+
+        if (!aceitas.isEmpty()) {
+            jdbcRepository.inserirMatriculas(aceitas);
+            aceitas.stream()
+                    .map(MatriculaNova::turmaId)
+                    .distinct()
+                    .forEach(turmaId -> eventos.publishEvent(new PautaAlteradaEvent(turmaId)));
+        }
+        return aceitas.size();
+    }
+
+    // ============================================================
+    // 🔹 JOB E RELATÓRIO DE REJEITADOS
+    // ============================================================
+    private ImportacaoJob novoJob(String tipo, FormatoExportacao formato) {
+        return transacao.execute(status -> jobRepository.save(new ImportacaoJob(tipo, formato.name())));
+    }
+
+    private ImportacaoJob jobParaRetomar(Long id, String tipo, FormatoExportacao formato) {
+        ImportacaoJob job = jobRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Importação não encontrada."));
+        if (!job.getTipo().equals(tipo) || !job.getFormato().equals(formato.name())) {
+            throw new IllegalArgumentException("A importação " + id + " é de " + job.getTipo()
+                    + " em " + job.getFormato() + ": reenvie o mesmo arquivo no mesmo formato.");
+        }
+        if (ImportacaoJob.CONCLUIDA.equals(job.getStatus())) {
+            throw new IllegalArgumentException("A importação " + id + " já foi concluída.");
+        }
+        return job;
+    }
+
+    private void atualizarStatus(Long id, String status, String erro) {
+        Instant agora = Instant.now();
+        Instant concluidaEm = ImportacaoJob.CONCLUIDA.equals(status) ? agora : null;
+        transacao.executeWithoutResult(s -> jobRepository.atualizarStatus(id, status, erro, concluidaEm, agora));
+    }
+
+    private void gravarRejeicoes(Long id, List<Rejeicao> rejeicoes) throws IOException {
+        if (rejeicoes.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(diretorio);
+        Path arquivo = caminhoRejeitados(id);
+        boolean novo = !Files.exists(arquivo);
+        try (BufferedWriter writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (novo) {
+                writer.write("linha,motivo,conteudo\n");
+            }
+            for (Rejeicao r : rejeicoes) {
+                writer.write(r.linha() + "," + csv(r.motivo()) + "," + csv(r.conteudo()) + "\n");
+            }
+        }
+    }
+
+    private Path caminhoRejeitados(Long id) {
+        return diretorio.resolve("rejeitados-" + id + ".csv");
+    }
+
+    private static Rejeicao rejeitar(LeitorImportacao.Registro registro, String motivo) {
+        return new Rejeicao(registro.linha(), motivo, registro.conteudo());
+    }
+
+    private static String csv(String valor) {
+        return '"' + (valor == null ? "" : valor.replace("\"", "\"\"")) + '"';
+    }
+
+    private static String resumir(Exception e) {
+        String mensagem = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        return mensagem.length() > 500 ? mensagem.substring(0, 500) : mensagem;
+    }
+}
@@ -0,0 +1,163 @@
+package com.faculdade.sgca.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Lê o corpo de uma importação linha a linha, direto do stream da requisição,
+ * sem carregar o arquivo em memória. CSV (com cabeçalho) e NDJSON viram o
+ * mesmo {@link Registro}: um mapa campo -> valor com o número da linha.
+ * Linhas malformadas não interrompem a leitura; voltam com {@code erro} preenchido.
+ */
+final class LeitorImportacao implements Closeable {
+
+    record Registro(long linha, Map<String, String> campos, String conteudo, String erro) {
+
+        String campo(String nome) {
+            String valor = campos.get(nome);
+            if (valor == null) {
+                return null;
+            }
+            valor = valor.trim();
+            return valor.isEmpty() ? null : valor;
+        }
+    }
+
+    private static final TypeReference<Map<String, Object>> TIPO_MAPA = new TypeReference<>() {
+    };
+
+    private final BufferedReader reader;
+    private final FormatoExportacao formato;
+    private final ObjectMapper objectMapper;
+    private List<String> cabecalho = List.of();
+    private long linhaAtual;
+
+    LeitorImportacao(InputStream entrada, FormatoExportacao formato, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+        if (formato == FormatoExportacao.CSV) {
+            String primeira = lerLinha();
+            if (primeira == null) {
+                throw new IllegalArgumentException("Arquivo CSV vazio: o cabeçalho é obrigatório.");
+            }
+            List<String> colunas = dividirCsv(primeira.replace("\uFEFF", ""));
+            if (colunas == null) {
+                throw new IllegalArgumentException("Cabeçalho CSV inválido.");
+            }
+            cabecalho = colunas.stream().map(String::trim).toList();
+        }
+    }
+
+    /**
+     * Número da última linha física consumida (o cabeçalho é a linha 1 no CSV).
+     */
+    long linhaAtual() {
+        return linhaAtual;
+    }
+
+    /**
+     * Descarta linhas até a posição informada; usado ao retomar uma importação.
+     */
+    void pularAte(long linha) throws IOException {
+        while (linhaAtual < linha && lerLinha() != null) {
+            // só avança
+        }
+    }
+
+    /**
+     * Próximo registro, ignorando linhas em branco; {@code null} no fim do arquivo.
+     */
+    Registro proximo() throws IOException {
+        String linha;
+        do {
+            linha = lerLinha();
+            if (linha == null) {
+                return null;
+            }
+        } while (linha.isBlank());
+
+        return formato == FormatoExportacao.CSV ? registroCsv(linha) : registroNdjson(linha);
+    }
+
+    private Registro registroCsv(String linha) {
+        List<String> valores = dividirCsv(linha);
+        if (valores == null) {
+            return new Registro(linhaAtual, Map.of(), linha, "Aspas não fechadas na linha.");
+        }
+        if (valores.size() > cabecalho.size()) {
+            return new Registro(linhaAtual, Map.of(), linha, "Mais colunas que o cabeçalho.");
+        }
+        Map<String, String> campos = new HashMap<>();
+        for (int i = 0; i < valores.size(); i++) {
+            campos.put(cabecalho.get(i), valores.get(i));
+        }
+        return new Registro(linhaAtual, campos, linha, null);
+    }
+
+    private Registro registroNdjson(String linha) {
+        try {
+            Map<String, Object> objeto = objectMapper.readValue(linha, TIPO_MAPA);
+            Map<String, String> campos = new HashMap<>();
+            objeto.forEach((k, v) -> campos.put(k, v == null ? null : v.toString()));
+            return new Registro(linhaAtual, campos, linha, null);
+        } catch (JsonProcessingException e) {
+            return new Registro(linhaAtual, Map.of(), linha, "JSON inválido na linha.");
+        }
+    }
+
+    private String lerLinha() throws IOException {
+        String linha = reader.readLine();
+        if (linha != null) {
+            linhaAtual++;
+        }
+        return linha;
+    }
+
+    /**
+     * Divide uma linha CSV (RFC 4180, sem quebra de linha dentro de campos).
+     * Retorna {@code null} se houver aspas sem fechamento.
+     */
+    static List<String> dividirCsv(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"') {
+                    if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                        atual.append('"');
+                        i++;
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            return null;
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,204 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.ListaEsperaDTO;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
+import com.faculdade.sgca.application.event.VagaLiberadaEvent;
+import com.faculdade.sgca.domain.model.ListaEspera;
+import com.faculdade.sgca.infrastructure.repository.ListaEsperaJdbcRepository;
+import com.faculdade.sgca.infrastructure.repository.ListaEsperaJdbcRepository.Promocao;
+import com.faculdade.sgca.infrastructure.repository.ListaEsperaRepository;
+import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de espera das turmas lotadas. O pedido de matrícula que não acha vaga
+ * vira uma entrada na fila da turma (repetir o pedido devolve a mesma
+ * entrada), e a posição é uma contagem no índice (turma_id, id).
+ * <p>
+ * A promoção roda fora das requisições: cada vaga liberada marca a turma como
+ * pendente depois do commit ({@link VagaLiberadaEvent}), e o agendamento
+ * curto promove as pendentes em lotes, um lote por transação: reserva as
+ * vagas na linha da turma, matricula os primeiros da fila e devolve o que
+ * sobrou. A varredura periódica cobre o que o evento não vê (vagas liberadas
+ * em outra instância, SQL manual, uma promoção que falhou).
+ */
+@Slf4j
+@Service
+public class ListaEsperaService {
+
+    private final ListaEsperaRepository repository;
+    private final ListaEsperaJdbcRepository jdbcRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final VagaService vagaService;
+    private final ApplicationEventPublisher eventos;
+    private final TransactionTemplate transacao;
+    private final Counter promovidas;
+    private final int tamanhoLote;
+
+    private final Set<Long> pendentes = ConcurrentHashMap.newKeySet();
+
+    public ListaEsperaService(ListaEsperaRepository repository,
+                              ListaEsperaJdbcRepository jdbcRepository,
+                              MatriculaRepository matriculaRepository,
+                              VagaService vagaService,
+                              ApplicationEventPublisher eventos,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${sgca.lista-espera.lote:50}") int tamanhoLote) {
+        this.repository = repository;
+        this.jdbcRepository = jdbcRepository;
+        this.matriculaRepository = matriculaRepository;
+        this.vagaService = vagaService;
+        this.eventos = eventos;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.promovidas = Counter.builder("sgca.lista-espera.promovidas")
+                .description("Entradas da lista de espera promovidas a matrícula")
+                .register(meterRegistry);
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+    }
+
+    // ============================================================
+    // 🔹 FILA
+    // ============================================================
+
+    /**
+     * Coloca o aluno na fila da turma, ou devolve a entrada que ele já tem.
+     * Sem transação própria: a entrada já está confirmada quando a turma é
+     * marcada para promoção, então uma vaga liberada no meio do caminho não
+     * passa despercebida.
+     */
+    public ListaEsperaDTO entrar(Long alunoId, Long turmaId) {
+        if (matriculaRepository.existsByAluno_IdAndTurma_Id(alunoId, turmaId)) {
+            throw new IllegalArgumentException("O aluno já está matriculado nesta turma.");
+        }
+        ListaEspera entrada = repository.findByAlunoIdAndTurmaId(alunoId, turmaId).orElse(null);
+        if (entrada == null) {
+            ListaEspera nova = new ListaEspera();
+            nova.setAlunoId(alunoId);
+            nova.setTurmaId(turmaId);
+            try {
+                entrada = repository.save(nova);
+            } catch (DataIntegrityViolationException e) {
+                // o mesmo pedido chegou duas vezes ao mesmo tempo
+                entrada = repository.findByAlunoIdAndTurmaId(alunoId, turmaId).orElseThrow(() -> e);
+            }
+        }
+        pendentes.add(turmaId);
+        return toDTO(entrada, posicao(entrada));
+    }
+
+    public ListaEsperaDTO buscarPorId(Long id) {
+        ListaEspera entrada = repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Entrada não encontrada na lista de espera (já promovida ou cancelada)."));
+        return toDTO(entrada, posicao(entrada));
+    }
+
+    public List<ListaEsperaDTO> listarPorTurma(Long turmaId) {
+        List<ListaEspera> fila = repository.findByTurmaIdOrderByIdAsc(turmaId);
+        List<ListaEsperaDTO> resultado = new ArrayList<>(fila.size());
+        for (int i = 0; i < fila.size(); i++) {
+            resultado.add(toDTO(fila.get(i), i + 1));
+        }
+        return resultado;
+    }
+
+    public void sair(Long id) {
+        if (!repository.existsById(id)) {
+            throw new IllegalArgumentException(
+                    "Entrada não encontrada na lista de espera (já promovida ou cancelada).");
+        }
+        repository.deleteById(id);
+    }
+
+    private long posicao(ListaEspera entrada) {
+        return repository.contarAFrente(entrada.getTurmaId(), entrada.getId()) + 1;
+    }
+
+    private static ListaEsperaDTO toDTO(ListaEspera entrada, long posicao) {
+        return new ListaEsperaDTO(entrada.getId(), entrada.getAlunoId(), entrada.getTurmaId(),
+                posicao, entrada.getEntradaEm());
+    }
+
+    // ============================================================
+    // 🔹 PROMOÇÃO
+    // ============================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoLiberarVaga(VagaLiberadaEvent evento) {
+        pendentes.add(evento.turmaId());
+    }
+
+    @Scheduled(fixedDelayString = "${sgca.lista-espera.varredura-ms:60000}")
+    public void varrer() {
+        pendentes.addAll(jdbcRepository.turmasComVaga());
+    }
+
+    @Scheduled(fixedDelayString = "${sgca.lista-espera.intervalo-ms:1000}")
+    public void promoverPendentes() {
+        for (Long turmaId : List.copyOf(pendentes)) {
+            pendentes.remove(turmaId);
+            try {
+                int total = promover(turmaId);
+                if (total > 0) {
+                    log.info("Lista de espera da turma {}: {} alunos promovidos.", turmaId, total);
+                }
+            } catch (RuntimeException e) {
+                // a varredura tenta de novo
+                log.warn("Falha ao promover a lista de espera da turma {}.", turmaId, e);
+            }
+        }
+    }
+
+    /**
+     * Promove lotes até acabar a vaga ou a fila. Um lote só de alunos que já
+     * têm matrícula não matricula ninguém, mas anda com a fila: o laço segue
+     * enquanto sai alguém dela.
+     *
+     * @return quantos alunos foram matriculados
+     */
+    public int promover(Long turmaId) {
+        int total = 0;
+        Promocao lote;
+        do {
+            lote = transacao.execute(s -> promoverLote(turmaId));
+            if (lote == null) {
+                break;
+            }
+            total += lote.matriculadas();
+        } while (lote.removidas() > 0);
+        return total;
+    }
+
+    private Promocao promoverLote(Long turmaId) {
+        // a turma primeiro (mesma ordem da criação de matrícula), depois a fila
+        int vagas = vagaService.reservar(turmaId, tamanhoLote);
+        if (vagas == 0) {
+            return new Promocao(0, 0);
+        }
+        Promocao lote = jdbcRepository.promover(turmaId, vagas);
+        int matriculados = lote.matriculadas();
+        if (matriculados < vagas) {
+            vagaService.devolver(turmaId, vagas - matriculados);
+        }
+        if (matriculados > 0) {
+            promovidas.increment(matriculados);
+            eventos.publishEvent(new PautaAlteradaEvent(turmaId));
+        }
+        return lote;
+    }
+}
@@ -1,15 +1,19 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.MatriculaDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
 import com.faculdade.sgca.application.mapper.MatriculaMapper;
 import com.faculdade.sgca.domain.model.Aluno;
 import com.faculdade.sgca.domain.model.Matricula;
 import com.faculdade.sgca.domain.model.Turma;
 import com.faculdade.sgca.infrastructure.repository.AlunoRepository;
+import com.faculdade.sgca.infrastructure.repository.ListaEsperaJdbcRepository;
 import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
 import com.faculdade.sgca.infrastructure.repository.TurmaRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,12 +26,14 @@ public class MatriculaService {
     private final AlunoRepository alunoRepository;
     private final TurmaRepository turmaRepository;
     private final MatriculaMapper mapper;
+    private final VagaService vagaService;
+    private final ListaEsperaJdbcRepository listaEsperaRepository;
+    private final ApplicationEventPublisher eventos;
 
-    // 🔹 LISTAR TODAS
-    public List<MatriculaDTO> listarTodas() {
-        return repository.findAll().stream()
-                .map(mapper::toDTO)
-                .toList();
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<MatriculaDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Matricula::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -69,26 +75,48 @@ public class MatriculaService {
         nova.setAluno(aluno);
         nova.setTurma(turma);
 
-        Matricula salva = repository.save(nova);
+        // vaga antes do INSERT: a promoção da lista de espera também trava a turma
+        // antes de matricular, e a mesma ordem nos dois lados evita deadlock
+        if (VagaService.ocupaVaga(nova.getSituacao())) {
+            vagaService.ocupar(turma);
+        }
+        Matricula salva = repository.saveAndFlush(nova);
+        listaEsperaRepository.removerSeLivre(aluno.getId(), turma.getId());
+        eventos.publishEvent(new PautaAlteradaEvent(turma.getId()));
         return mapper.toDTO(salva);
     }
 
     // 🔹 ATUALIZAR SITUAÇÃO
     @Transactional
-    public MatriculaDTO atualizarSituacao(Long id, String situacao) {
+    public MatriculaDTO atualizarSituacao(Long id, String situacao, Long versaoEsperada) {
         Matricula matricula = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Matrícula não encontrada."));
+        VersaoDivergenteException.verificar(matricula.getVersao(), versaoEsperada);
+        boolean ocupava = VagaService.ocupaVaga(matricula.getSituacao());
         matricula.setSituacao(situacao);
-        Matricula atualizada = repository.save(matricula);
+        Matricula atualizada = repository.saveAndFlush(matricula);
+
+        boolean ocupa = VagaService.ocupaVaga(atualizada.getSituacao());
+        if (ocupa && !ocupava) {
+            vagaService.ocupar(atualizada.getTurma());
+        } else if (ocupava && !ocupa) {
+            vagaService.liberar(atualizada.getTurma().getId());
+        }
+        eventos.publishEvent(new PautaAlteradaEvent(matricula.getTurma().getId()));
         return mapper.toDTO(atualizada);
     }
 
     // 🔹 EXCLUIR
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw new IllegalArgumentException("Matrícula não encontrada.");
+        Matricula matricula = repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Matrícula não encontrada."));
+        Long turmaId = matricula.getTurma().getId();
+        boolean ocupava = VagaService.ocupaVaga(matricula.getSituacao());
+        repository.delete(matricula);
+        if (ocupava) {
+            vagaService.liberar(turmaId);
         }
-        repository.deleteById(id);
+        eventos.publishEvent(new PautaAlteradaEvent(turmaId));
     }
 }
@@ -1,18 +1,25 @@
 package com.faculdade.sgca.application.service;
 
+import com.faculdade.sgca.application.dto.ItemResultadoLoteDTO;
 import com.faculdade.sgca.application.dto.NotaDTO;
+import com.faculdade.sgca.application.dto.NotaLoteDTO;
+import com.faculdade.sgca.application.dto.ResultadoLoteDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
 import com.faculdade.sgca.application.mapper.NotaMapper;
 import com.faculdade.sgca.domain.model.Avaliacao;
 import com.faculdade.sgca.domain.model.Matricula;
 import com.faculdade.sgca.domain.model.Nota;
 import com.faculdade.sgca.infrastructure.repository.AvaliacaoRepository;
 import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
+import com.faculdade.sgca.infrastructure.repository.NotaJdbcRepository;
 import com.faculdade.sgca.infrastructure.repository.NotaRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -21,14 +28,17 @@ public class NotaService {
     private final NotaRepository repository;
     private final AvaliacaoRepository avaliacaoRepository;
     private final MatriculaRepository matriculaRepository;
+    private final NotaJdbcRepository jdbcRepository;
     private final NotaMapper mapper;
+    private final ApplicationEventPublisher eventos;
 
-    // 🔹 LISTAR TODAS
-    public List<NotaDTO> listarTodas() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDTO)
-                .toList();
+    // Limite de linhas por chamada (uma turma grande cabe com folga)
+    private static final int MAX_LINHAS_LOTE = 1000;
+
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<NotaDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Nota::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -72,21 +82,85 @@ public class NotaService {
         nova.setMatricula(matricula);
 
         Nota salva = repository.save(nova);
+        eventos.publishEvent(new PautaAlteradaEvent(avaliacao.getTurmaId()));
         return mapper.toDTO(salva);
     }
 
+    // 🔹 LANÇAMENTO EM LOTE (AVALIAÇÃO INTEIRA)
+    @Transactional
+    public ResultadoLoteDTO lancarLote(NotaLoteDTO dto) {
+        if (dto.getAvaliacaoId() == null) {
+            throw new IllegalArgumentException("O campo 'avaliacaoId' é obrigatório.");
+        }
+        if (dto.getNotas() == null || dto.getNotas().isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma nota.");
+        }
+        if (dto.getNotas().size() > MAX_LINHAS_LOTE) {
+            throw new IllegalArgumentException("O lote aceita no máximo " + MAX_LINHAS_LOTE + " notas.");
+        }
+
+        Avaliacao avaliacao = avaliacaoRepository.findById(dto.getAvaliacaoId())
+                .orElseThrow(() -> new IllegalArgumentException("Avaliação não encontrada."));
+
+        Set<Long> informadas = new HashSet<>();
+        for (NotaLoteDTO.Linha linha : dto.getNotas()) {
+            if (linha.getMatriculaId() != null) {
+                informadas.add(linha.getMatriculaId());
+            }
+        }
+
+        // 🧩 Uma consulta valida todas as matrículas contra a turma da avaliação
+        Set<Long> daTurma = informadas.isEmpty()
+                ? Set.of()
+                : new HashSet<>(matriculaRepository.findIdsDaTurma(avaliacao.getTurmaId(), informadas));
+
+        List<ItemResultadoLoteDTO> itens = new ArrayList<>(dto.getNotas().size());
+        Map<Long, NotaLoteDTO.Linha> validas = new TreeMap<>();
+        for (NotaLoteDTO.Linha linha : dto.getNotas()) {
+            Long matriculaId = linha.getMatriculaId();
+            if (matriculaId == null) {
+                itens.add(ItemResultadoLoteDTO.rejeitado(null, "O campo 'matriculaId' é obrigatório."));
+            } else if (linha.getValor() == null || linha.getValor() < 0 || linha.getValor() > 10) {
+                itens.add(ItemResultadoLoteDTO.rejeitado(matriculaId, "A nota deve estar entre 0 e 10."));
+            } else if (!daTurma.contains(matriculaId)) {
+                itens.add(ItemResultadoLoteDTO.rejeitado(matriculaId, "Matrícula não pertence à turma da avaliação."));
+            } else if (validas.putIfAbsent(matriculaId, linha) != null) {
+                itens.add(ItemResultadoLoteDTO.rejeitado(matriculaId, "Matrícula repetida no lote."));
+            }
+        }
+
+        if (!validas.isEmpty()) {
+            Set<Long> existentes = new HashSet<>(
+                    repository.findMatriculasComNota(avaliacao.getId(), validas.keySet()));
+
+            // 🧩 Upsert em lote na restrição única (avaliação, matrícula), em ordem de matrícula
+            jdbcRepository.upsertLote(avaliacao.getId(), new ArrayList<>(validas.values()));
+            eventos.publishEvent(new PautaAlteradaEvent(avaliacao.getTurmaId()));
+
+            for (Long matriculaId : validas.keySet()) {
+                itens.add(existentes.contains(matriculaId)
+                        ? ItemResultadoLoteDTO.atualizado(matriculaId)
+                        : ItemResultadoLoteDTO.criado(matriculaId));
+            }
+        }
+
+        return new ResultadoLoteDTO(itens);
+    }
+
     // 🔹 ATUALIZAR VALOR
     @Transactional
-    public NotaDTO atualizarValor(Long id, double novoValor) {
+    public NotaDTO atualizarValor(Long id, double novoValor, Long versaoEsperada) {
         if (novoValor < 0 || novoValor > 10) {
             throw new IllegalArgumentException("A nota deve estar entre 0 e 10.");
         }
 
         Nota nota = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Nota não encontrada."));
+        VersaoDivergenteException.verificar(nota.getVersao(), versaoEsperada);
 
         nota.setValor(novoValor);
-        Nota atualizada = repository.save(nota);
+        Nota atualizada = repository.saveAndFlush(nota);
+        eventos.publishEvent(new PautaAlteradaEvent(nota.getAvaliacao().getTurmaId()));
 
         return mapper.toDTO(atualizada);
     }
@@ -94,9 +168,10 @@ public class NotaService {
     // 🔹 EXCLUIR
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw new IllegalArgumentException("Nota não encontrada.");
-        }
-        repository.deleteById(id);
+        Nota nota = repository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Nota não encontrada."));
+        Long turmaId = nota.getAvaliacao().getTurmaId();
+        repository.delete(nota);
+        eventos.publishEvent(new PautaAlteradaEvent(turmaId));
     }
 }
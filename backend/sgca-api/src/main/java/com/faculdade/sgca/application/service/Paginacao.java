@@ -0,0 +1,80 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.PaginaCursor;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Paginação por keyset (WHERE id > :after ORDER BY id LIMIT n), sem OFFSET:
+ * o custo de cada página é o mesmo, seja a primeira ou a milésima.
+ * O cursor devolvido ao cliente é opaco (base64url) e só carrega o último id.
+ */
+public final class Paginacao {
+
+    public static final int LIMITE_PADRAO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private static final String PREFIXO_CURSOR = "v1:";
+
+    private Paginacao() {
+    }
+
+    /**
+     * Busca uma página a partir do cursor. A consulta recebe o último id visto
+     * e um limite de uma linha a mais, usada só para saber se há próxima página.
+     */
+    public static <E, D> PaginaCursor<D> paginar(String after,
+                                                 Integer limit,
+                                                 BiFunction<Long, Limit, List<E>> consulta,
+                                                 Function<E, Long> id,
+                                                 Function<E, D> mapper) {
+        int limite = normalizarLimite(limit);
+        long ultimoId = decodificar(after);
+
+        List<E> linhas = consulta.apply(ultimoId, Limit.of(limite + 1));
+        boolean temMais = linhas.size() > limite;
+        List<E> pagina = temMais ? linhas.subList(0, limite) : linhas;
+
+        String proximo = temMais ? codificar(id.apply(pagina.get(pagina.size() - 1))) : null;
+        return new PaginaCursor<>(pagina.stream().map(mapper).toList(), proximo, limite);
+    }
+
+    // ============================================================
+    // 🔹 LIMITE E CURSOR
+    // ============================================================
+    static int normalizarLimite(Integer limit) {
+        if (limit == null) {
+            return LIMITE_PADRAO;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("O parâmetro 'limit' deve ser maior que zero.");
+        }
+        return Math.min(limit, LIMITE_MAXIMO);
+    }
+
+    static String codificar(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIXO_CURSOR + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!texto.startsWith(PREFIXO_CURSOR)) {
+                throw new IllegalArgumentException("Cursor de paginação inválido.");
+            }
+            return Long.parseLong(texto.substring(PREFIXO_CURSOR.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException e erro de base64 também caem aqui
+            throw new IllegalArgumentException("Cursor de paginação inválido.");
+        }
+    }
+}
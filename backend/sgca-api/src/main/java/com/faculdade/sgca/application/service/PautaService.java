@@ -0,0 +1,110 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.PautaDTO;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
+import com.faculdade.sgca.domain.avaliacao.TipoAvaliacao;
+import com.faculdade.sgca.domain.avaliacao.TiposAvaliacao;
+import com.faculdade.sgca.infrastructure.repository.PautaJdbcRepository;
+import com.faculdade.sgca.infrastructure.repository.PautaJdbcRepository.Celula;
+import com.faculdade.sgca.infrastructure.repository.TurmaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Pauta da turma montada a partir de uma única consulta (matrículas ×
+ * avaliações × notas). A média final aplica a regra de cada tipo de
+ * avaliação. O resultado fica em cache por turma e é descartado depois do
+ * commit de qualquer alteração de nota, avaliação ou matrícula da turma
+ * ({@link PautaAlteradaEvent}); o TTL só cobre escritas feitas fora da API.
+ */
+@Service
+public class PautaService {
+
+    private final PautaJdbcRepository repository;
+    private final TurmaRepository turmaRepository;
+    private final Cache<Long, PautaDTO> cache;
+
+    public PautaService(PautaJdbcRepository repository,
+                        TurmaRepository turmaRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${sgca.pauta.cache.max-turmas:2000}") long maxTurmas,
+                        @Value("${sgca.pauta.cache.ttl-minutos:30}") long ttlMinutos) {
+        this.repository = repository;
+        this.turmaRepository = turmaRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxTurmas)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "pauta");
+    }
+
+    // ============================================================
+    // 🔹 PAUTA DA TURMA
+    // ============================================================
+    public PautaDTO buscarPorTurma(Long turmaId) {
+        return cache.get(turmaId, this::montar);
+    }
+
+    // ============================================================
+    // 🔹 INVALIDAÇÃO (DEPOIS DO COMMIT)
+    // ============================================================
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarPauta(PautaAlteradaEvent evento) {
+        if (evento.turmaId() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(evento.turmaId());
+        }
+    }
+
+    // ============================================================
+    // 🔹 MONTAGEM
+    // ============================================================
+    private PautaDTO montar(Long turmaId) {
+        if (!turmaRepository.existsById(turmaId)) {
+            throw new IllegalArgumentException("Turma não encontrada.");
+        }
+
+        List<Celula> celulas = repository.buscarCelulas(turmaId);
+
+        Map<Long, PautaDTO.Coluna> colunas = new TreeMap<>();
+        Map<Long, PautaDTO.Linha> linhas = new LinkedHashMap<>();
+        for (Celula c : celulas) {
+            if (c.avaliacaoId() != null) {
+                colunas.computeIfAbsent(c.avaliacaoId(),
+                        id -> new PautaDTO.Coluna(id, c.titulo(), c.tipo(), c.peso()));
+            }
+            if (c.matriculaId() == null) {
+                continue;
+            }
+
+            PautaDTO.Linha linha = linhas.computeIfAbsent(c.matriculaId(),
+                    id -> new PautaDTO.Linha(id, c.alunoId(), c.alunoNome(), c.situacao(), new LinkedHashMap<>(), 0));
+            if (c.valor() != null) {
+                linha.getNotas().put(c.avaliacaoId(), c.valor());
+                TipoAvaliacao regra = TiposAvaliacao.buscar(c.tipo())
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Avaliação " + c.avaliacaoId() + " com tipo inválido: " + c.tipo()));
+                linha.setNotaFinal(linha.getNotaFinal() + regra.calcularNotaFinal(c.valor(), c.peso()));
+            }
+        }
+
+        for (PautaDTO.Linha linha : linhas.values()) {
+            linha.setNotaFinal(Math.round(linha.getNotaFinal() * 100) / 100.0);
+        }
+        double somaPesos = colunas.values().stream().mapToDouble(PautaDTO.Coluna::getPeso).sum();
+
+        return new PautaDTO(turmaId, somaPesos, new ArrayList<>(colunas.values()),
+                new ArrayList<>(linhas.values()), Instant.now());
+    }
+}
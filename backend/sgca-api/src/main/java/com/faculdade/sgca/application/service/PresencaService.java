@@ -1,11 +1,17 @@
 package com.faculdade.sgca.application.service;
 
+import com.faculdade.sgca.application.dto.ItemResultadoLoteDTO;
 import com.faculdade.sgca.application.dto.PresencaDTO;
+import com.faculdade.sgca.application.dto.PresencaLoteDTO;
+import com.faculdade.sgca.application.dto.ResultadoLoteDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.PresencaMapper;
 import com.faculdade.sgca.domain.model.Matricula;
 import com.faculdade.sgca.domain.model.Presenca;
 import com.faculdade.sgca.domain.model.Turma;
+import com.faculdade.sgca.infrastructure.repository.FrequenciaJdbcRepository;
 import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
+import com.faculdade.sgca.infrastructure.repository.PresencaJdbcRepository;
 import com.faculdade.sgca.infrastructure.repository.PresencaRepository;
 import com.faculdade.sgca.infrastructure.repository.TurmaRepository;
 import jakarta.transaction.Transactional;
@@ -13,7 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -22,13 +28,17 @@ public class PresencaService {
     private final PresencaRepository repository;
     private final TurmaRepository turmaRepository;
     private final MatriculaRepository matriculaRepository;
+    private final PresencaJdbcRepository jdbcRepository;
+    private final FrequenciaJdbcRepository frequenciaRepository;
     private final PresencaMapper mapper;
 
-    // 🔹 LISTAR TODAS
-    public List<PresencaDTO> listarTodas() {
-        return repository.findAll().stream()
-                .map(mapper::toDTO)
-                .toList();
+    // Limite de linhas por chamada (uma turma grande cabe com folga)
+    private static final int MAX_LINHAS_LOTE = 1000;
+
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<PresencaDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Presenca::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -72,25 +82,98 @@ public class PresencaService {
         nova.setPresente(dto.isPresente());
 
         Presenca salva = repository.save(nova);
+        frequenciaRepository.ajustar(matricula.getId(), turma.getId(), 1, salva.isPresente() ? 1 : 0);
         return mapper.toDTO(salva);
     }
 
+    // 🔹 CHAMADA EM LOTE (TURMA + DATA)
+    @Transactional
+    public ResultadoLoteDTO registrarLote(PresencaLoteDTO dto) {
+        if (dto.getTurmaId() == null || dto.getDataAula() == null) {
+            throw new IllegalArgumentException("Os campos 'turmaId' e 'dataAula' são obrigatórios.");
+        }
+        if (dto.getPresencas() == null || dto.getPresencas().isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma presença.");
+        }
+        if (dto.getPresencas().size() > MAX_LINHAS_LOTE) {
+            throw new IllegalArgumentException("O lote aceita no máximo " + MAX_LINHAS_LOTE + " presenças.");
+        }
+
+        // ordena por matrícula: resposta estável e mesma ordem de travamento entre lotes concorrentes
+        SortedMap<Long, Boolean> presencas = new TreeMap<>(dto.getPresencas());
+
+        // 🧩 Uma consulta valida todas as matrículas contra a turma
+        Set<Long> daTurma = new HashSet<>(matriculaRepository.findIdsDaTurma(dto.getTurmaId(), presencas.keySet()));
+        if (daTurma.isEmpty() && !turmaRepository.existsById(dto.getTurmaId())) {
+            throw new IllegalArgumentException("Turma não encontrada.");
+        }
+
+        List<ItemResultadoLoteDTO> itens = new ArrayList<>(presencas.size());
+        List<Map.Entry<Long, Boolean>> validas = new ArrayList<>(presencas.size());
+        for (Map.Entry<Long, Boolean> linha : presencas.entrySet()) {
+            if (linha.getValue() == null) {
+                itens.add(ItemResultadoLoteDTO.rejeitado(linha.getKey(), "Valor de presença ausente."));
+            } else if (!daTurma.contains(linha.getKey())) {
+                itens.add(ItemResultadoLoteDTO.rejeitado(linha.getKey(), "Matrícula não pertence à turma."));
+            } else {
+                validas.add(linha);
+            }
+        }
+
+        if (!validas.isEmpty()) {
+            // 🧩 Upsert num comando só na restrição única (turma, matrícula, data)
+            Map<Long, PresencaJdbcRepository.Gravacao> gravadas = new HashMap<>();
+            for (PresencaJdbcRepository.Gravacao g : jdbcRepository.upsertLote(dto.getTurmaId(), dto.getDataAula(), validas)) {
+                gravadas.put(g.matriculaId(), g);
+            }
+
+            // 🧩 Contadores de frequência: só o que foi criado ou mudou de valor
+            List<FrequenciaJdbcRepository.Ajuste> ajustes = new ArrayList<>(gravadas.size());
+            for (Map.Entry<Long, Boolean> linha : validas) {
+                PresencaJdbcRepository.Gravacao g = gravadas.get(linha.getKey());
+                if (g == null) {
+                    // já existia com o mesmo valor
+                    itens.add(ItemResultadoLoteDTO.atualizado(linha.getKey()));
+                } else if (g.inserida()) {
+                    itens.add(ItemResultadoLoteDTO.criado(g.matriculaId()));
+                    ajustes.add(new FrequenciaJdbcRepository.Ajuste(g.matriculaId(), 1, g.presente() ? 1 : 0));
+                } else {
+                    itens.add(ItemResultadoLoteDTO.atualizado(g.matriculaId()));
+                    ajustes.add(new FrequenciaJdbcRepository.Ajuste(g.matriculaId(), 0, g.presente() ? 1 : -1));
+                }
+            }
+            if (!ajustes.isEmpty()) {
+                frequenciaRepository.ajustarLote(dto.getTurmaId(), ajustes);
+            }
+        }
+
+        itens.sort(Comparator.comparing(ItemResultadoLoteDTO::getMatriculaId));
+        return new ResultadoLoteDTO(itens);
+    }
+
     // 🔹 ATUALIZAR PRESENÇA
     @Transactional
-    public PresencaDTO atualizar(Long id, boolean presente) {
-        Presenca presenca = repository.findById(id)
+    public PresencaDTO atualizar(Long id, boolean presente, Long versaoEsperada) {
+        // travada: o ajuste do contador depende do valor anterior
+        Presenca presenca = repository.findParaAlterar(id)
                 .orElseThrow(() -> new IllegalArgumentException("Presença não encontrada."));
+        VersaoDivergenteException.verificar(presenca.getVersao(), versaoEsperada);
+        if (presenca.isPresente() != presente) {
+            frequenciaRepository.ajustar(presenca.getMatricula().getId(), presenca.getTurma().getId(),
+                    0, presente ? 1 : -1);
+        }
         presenca.setPresente(presente);
-        Presenca atualizada = repository.save(presenca);
+        Presenca atualizada = repository.saveAndFlush(presenca);
         return mapper.toDTO(atualizada);
     }
 
     // 🔹 EXCLUIR
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw new IllegalArgumentException("Presença não encontrada.");
-        }
-        repository.deleteById(id);
+        Presenca presenca = repository.findParaAlterar(id)
+                .orElseThrow(() -> new IllegalArgumentException("Presença não encontrada."));
+        repository.delete(presenca);
+        frequenciaRepository.ajustar(presenca.getMatricula().getId(), presenca.getTurma().getId(),
+                -1, presenca.isPresente() ? -1 : 0);
     }
 }
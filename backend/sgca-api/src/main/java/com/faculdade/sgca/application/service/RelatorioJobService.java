@@ -0,0 +1,312 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.RelatorioJobDTO;
+import com.faculdade.sgca.application.dto.RelatorioSolicitacaoDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Motor de relatórios em segundo plano. O pedido recebe um id derivado dos
+ * próprios parâmetros, então pedidos iguais caem no mesmo job: enquanto um
+ * está na fila ou rodando, ou o resultado ainda está no prazo, ninguém gera
+ * de novo. A geração roda num pool limitado e grava o texto em disco (arquivo
+ * temporário + rename), onde fica servível até o TTL; um expurgo periódico
+ * apaga o que venceu. Resultados em disco sobrevivem a um restart e são
+ * reaproveitados no próximo pedido igual.
+ */
+@Slf4j
+@Service
+public class RelatorioJobService {
+
+    private static final String EXTENSAO = ".txt";
+    private static final Pattern ID_VALIDO = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private final RelatorioService relatorioService;
+    private final ThreadPoolExecutor pool;
+    private final Path diretorio;
+    private final Duration ttl;
+
+    private final Map<String, RelatorioJobDTO> jobs = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter reaproveitados;
+    private final Counter rejeitados;
+
+    public RelatorioJobService(RelatorioService relatorioService,
+                               MeterRegistry meterRegistry,
+                               @Value("${sgca.relatorios.threads:2}") int threads,
+                               @Value("${sgca.relatorios.fila:50}") int capacidadeFila,
+                               @Value("${sgca.relatorios.ttl-minutos:60}") long ttlMinutos,
+                               @Value("${sgca.relatorios.diretorio:${java.io.tmpdir}/sgca-relatorios}") String diretorio) {
+        this.relatorioService = relatorioService;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofMinutes(ttlMinutos);
+        this.diretorio = Paths.get(diretorio);
+        this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                new NomeadorThreads(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.reaproveitados = Counter.builder("sgca.relatorios.reaproveitados")
+                .description("Pedidos de relatório atendidos por um job já existente ou pelo cache em disco")
+                .register(meterRegistry);
+        this.rejeitados = Counter.builder("sgca.relatorios.rejeitados")
+                .description("Pedidos de relatório recusados por fila cheia")
+                .register(meterRegistry);
+        Gauge.builder("sgca.relatorios.fila", pool, p -> p.getQueue().size())
+                .description("Relatórios aguardando na fila")
+                .register(meterRegistry);
+    }
+
+    // ============================================================
+    // 🔹 SUBMETER (COM DEDUPLICAÇÃO)
+    // ============================================================
+    public RelatorioJobDTO submeter(RelatorioSolicitacaoDTO solicitacao) {
+        TipoRelatorio tipo = TipoRelatorio.de(solicitacao.getTipo());
+        // o mesmo período no id e na geração: "  " e null viram o mesmo pedido, sem filtro
+        RelatorioSolicitacaoDTO dto = normalizar(solicitacao);
+        relatorioService.validar(tipo, dto);
+
+        String id = gerarId(tipo, dto);
+        boolean[] novo = {false};
+        RelatorioJobDTO job;
+        try {
+            job = jobs.compute(id, (chave, atual) -> {
+                Instant agora = Instant.now();
+                if (atual != null && reaproveitavel(atual, agora)) {
+                    return atual;
+                }
+                RelatorioJobDTO emDisco = doDisco(chave, tipo, agora);
+                if (emDisco != null) {
+                    return emDisco;
+                }
+                RelatorioJobDTO enfileirado = job(chave, tipo, RelatorioJobDTO.AGUARDANDO, agora);
+                pool.execute(() -> executar(enfileirado, tipo, dto));
+                novo[0] = true;
+                return enfileirado;
+            });
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+            throw new IllegalStateException("Fila de relatórios cheia. Tente novamente em instantes.");
+        }
+
+        if (!novo[0]) {
+            reaproveitados.increment();
+        }
+        return job;
+    }
+
+    // ============================================================
+    // 🔹 CONSULTAR
+    // ============================================================
+    public RelatorioJobDTO buscar(String id) {
+        RelatorioJobDTO job = jobs.get(id);
+        if (job == null || expirado(job, Instant.now())) {
+            throw new IllegalArgumentException("Relatório não encontrado ou expirado.");
+        }
+        return job;
+    }
+
+    public Path arquivoResultado(String id) {
+        RelatorioJobDTO job = buscar(id);
+        if (RelatorioJobDTO.FALHOU.equals(job.getStatus())) {
+            throw new IllegalStateException("A geração do relatório falhou: " + job.getErro());
+        }
+        if (!RelatorioJobDTO.CONCLUIDO.equals(job.getStatus())) {
+            throw new IllegalStateException("Relatório ainda em processamento.");
+        }
+        Path arquivo = caminho(id);
+        if (!Files.exists(arquivo)) {
+            jobs.remove(id, job);
+            throw new IllegalArgumentException("Relatório não encontrado ou expirado.");
+        }
+        return arquivo;
+    }
+
+    // ============================================================
+    // 🔹 GERAÇÃO (NO POOL)
+    // ============================================================
+    private void executar(RelatorioJobDTO enfileirado, TipoRelatorio tipo, RelatorioSolicitacaoDTO dto) {
+        String id = enfileirado.getId();
+        jobs.put(id, job(id, tipo, RelatorioJobDTO.PROCESSANDO, enfileirado.getSolicitadoEm()));
+
+        RelatorioJobDTO resultado = job(id, tipo, RelatorioJobDTO.CONCLUIDO, enfileirado.getSolicitadoEm());
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        Path temporario = null;
+        try {
+            Files.createDirectories(diretorio);
+            temporario = diretorio.resolve(id + "." + UUID.randomUUID() + ".tmp");
+            try (Writer saida = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+                relatorioService.gerar(tipo, dto, saida);
+            }
+            Path destino = caminho(id);
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Instant concluidoEm = Instant.now();
+            resultado.setConcluidoEm(concluidoEm);
+            resultado.setExpiraEm(concluidoEm.plus(ttl));
+            resultado.setTamanhoBytes(Files.size(destino));
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao gerar o relatório {}", id, e);
+            resultado.setStatus(RelatorioJobDTO.FALHOU);
+            resultado.setErro(e.getMessage());
+            resultado.setConcluidoEm(Instant.now());
+            resultado.setExpiraEm(resultado.getConcluidoEm().plus(ttl));
+            apagar(temporario);
+        } finally {
+            amostra.stop(Timer.builder("sgca.relatorios.geracao")
+                    .description("Tempo de geração de relatórios")
+                    .tag("tipo", tipo.name())
+                    .tag("status", resultado.getStatus())
+                    .register(meterRegistry));
+            jobs.put(id, resultado);
+        }
+    }
+
+    // ============================================================
+    // 🔹 EXPURGO (TTL)
+    // ============================================================
+    @Scheduled(fixedDelayString = "${sgca.relatorios.expurgar-ms:300000}")
+    public void expurgar() {
+        Instant agora = Instant.now();
+        jobs.values().removeIf(job -> expirado(job, agora));
+
+        if (!Files.isDirectory(diretorio)) {
+            return;
+        }
+        Instant limite = agora.minus(ttl);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.filter(arquivo -> modificadoAntes(arquivo, limite)).forEach(this::apagar);
+        } catch (IOException e) {
+            log.warn("Falha ao expurgar relatórios em {}", diretorio, e);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+
+    // ============================================================
+    // 🔹 AUXILIARES
+    // ============================================================
+    // período em branco vale como ausente; o resto segue sem espaços nas pontas
+    private static RelatorioSolicitacaoDTO normalizar(RelatorioSolicitacaoDTO dto) {
+        String periodo = dto.getPeriodo() == null || dto.getPeriodo().isBlank() ? null : dto.getPeriodo().trim();
+        return new RelatorioSolicitacaoDTO(dto.getTipo(), dto.getAlunoId(), dto.getCursoId(), periodo);
+    }
+
+    // mesmo pedido → mesmo id (e mesmo arquivo), legível e seguro como nome de arquivo.
+    // Recebe o pedido já normalizado, o mesmo que vai para a geração.
+    private static String gerarId(TipoRelatorio tipo, RelatorioSolicitacaoDTO dto) {
+        Long alvo = tipo == TipoRelatorio.ALUNO ? dto.getAlunoId() : dto.getCursoId();
+        String periodo = dto.getPeriodo() == null ? "" : dto.getPeriodo();
+        String chave = tipo.name() + ":" + alvo + ":" + periodo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(chave.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean reaproveitavel(RelatorioJobDTO job, Instant agora) {
+        return switch (job.getStatus()) {
+            case RelatorioJobDTO.AGUARDANDO, RelatorioJobDTO.PROCESSANDO -> true;
+            case RelatorioJobDTO.CONCLUIDO -> !expirado(job, agora) && Files.exists(caminho(job.getId()));
+            default -> false;
+        };
+    }
+
+    private static boolean expirado(RelatorioJobDTO job, Instant agora) {
+        return job.getExpiraEm() != null && !job.getExpiraEm().isAfter(agora);
+    }
+
+    // resultado ainda no prazo deixado por uma execução anterior (por exemplo, antes de um restart)
+    private RelatorioJobDTO doDisco(String id, TipoRelatorio tipo, Instant agora) {
+        Path arquivo = caminho(id);
+        try {
+            if (!Files.exists(arquivo)) {
+                return null;
+            }
+            Instant gravadoEm = Files.getLastModifiedTime(arquivo).toInstant();
+            if (!gravadoEm.plus(ttl).isAfter(agora)) {
+                return null;
+            }
+            RelatorioJobDTO job = job(id, tipo, RelatorioJobDTO.CONCLUIDO, gravadoEm);
+            job.setConcluidoEm(gravadoEm);
+            job.setExpiraEm(gravadoEm.plus(ttl));
+            job.setTamanhoBytes(Files.size(arquivo));
+            return job;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static RelatorioJobDTO job(String id, TipoRelatorio tipo, String status, Instant solicitadoEm) {
+        RelatorioJobDTO job = new RelatorioJobDTO();
+        job.setId(id);
+        job.setTipo(tipo.name());
+        job.setStatus(status);
+        job.setSolicitadoEm(solicitadoEm);
+        return job;
+    }
+
+    private Path caminho(String id) {
+        if (!ID_VALIDO.matcher(id).matches()) {
+            throw new IllegalArgumentException("Relatório não encontrado ou expirado.");
+        }
+        return diretorio.resolve(id + EXTENSAO);
+    }
+
+    private static boolean modificadoAntes(Path arquivo, Instant limite) {
+        try {
+            FileTime modificado = Files.getLastModifiedTime(arquivo);
+            return modificado.toInstant().isBefore(limite);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void apagar(Path arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            log.warn("Não foi possível apagar {}", arquivo, e);
+        }
+    }
+
+    private static final class NomeadorThreads implements ThreadFactory {
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "relatorio-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
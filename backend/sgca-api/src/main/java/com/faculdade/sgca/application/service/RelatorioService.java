@@ -0,0 +1,123 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.PautaDTO;
+import com.faculdade.sgca.application.dto.RelatorioSolicitacaoDTO;
+import com.faculdade.sgca.application.dto.ResumoCursoDTO;
+import com.faculdade.sgca.domain.model.Aluno;
+import com.faculdade.sgca.domain.report.RelatorioAlunoCreator;
+import com.faculdade.sgca.domain.report.RelatorioCursoCreator;
+import com.faculdade.sgca.infrastructure.repository.AlunoRepository;
+import com.faculdade.sgca.infrastructure.repository.CursoRepository;
+import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
+import com.faculdade.sgca.infrastructure.repository.TurmaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Monta os dados de cada relatório e escreve o texto dos
+ * {@link com.faculdade.sgca.domain.report.RelatorioCreator} direto na saída,
+ * um relatório por vez, sem acumular o documento inteiro em memória.
+ * As médias finais vêm da pauta de cada turma ({@link PautaService}).
+ */
+@Service
+@RequiredArgsConstructor
+public class RelatorioService {
+
+    private final AlunoRepository alunoRepository;
+    private final CursoRepository cursoRepository;
+    private final TurmaRepository turmaRepository;
+    private final MatriculaRepository matriculaRepository;
+    private final PautaService pautaService;
+    private final ResumoCursoService resumoCursoService;
+
+    private static final class Desempenho {
+        private final String nome;
+        private double somaMedias;
+        private int turmas;
+
+        Desempenho(String nome) {
+            this.nome = nome;
+        }
+
+        double media() {
+            return turmas == 0 ? 0 : somaMedias / turmas;
+        }
+    }
+
+    // ============================================================
+    // 🔹 VALIDAÇÃO (NA SUBMISSÃO, ANTES DE ENFILEIRAR)
+    // ============================================================
+    public void validar(TipoRelatorio tipo, RelatorioSolicitacaoDTO dto) {
+        switch (tipo) {
+            case ALUNO -> {
+                if (dto.getAlunoId() == null) {
+                    throw new IllegalArgumentException("O campo 'alunoId' é obrigatório para o relatório de aluno.");
+                }
+                if (!alunoRepository.existsById(dto.getAlunoId())) {
+                    throw new IllegalArgumentException("Aluno não encontrado.");
+                }
+            }
+            case CURSO -> {
+                if (dto.getCursoId() == null) {
+                    throw new IllegalArgumentException("O campo 'cursoId' é obrigatório para o relatório de curso.");
+                }
+                if (!cursoRepository.existsById(dto.getCursoId())) {
+                    throw new IllegalArgumentException("Curso não encontrado.");
+                }
+            }
+        }
+    }
+
+    // ============================================================
+    // 🔹 GERAÇÃO
+    // ============================================================
+    public void gerar(TipoRelatorio tipo, RelatorioSolicitacaoDTO dto, Writer saida) throws IOException {
+        switch (tipo) {
+            case ALUNO -> gerarAluno(dto.getAlunoId(), dto.getPeriodo(), saida);
+            case CURSO -> gerarCurso(dto.getCursoId(), dto.getPeriodo(), saida);
+        }
+    }
+
+    private void gerarAluno(Long alunoId, String periodo, Writer saida) throws IOException {
+        Aluno aluno = alunoRepository.findById(alunoId)
+                .orElseThrow(() -> new IllegalArgumentException("Aluno não encontrado."));
+
+        Desempenho desempenho = new Desempenho(aluno.getNome());
+        for (Long turmaId : matriculaRepository.findTurmasDoAluno(alunoId, periodo)) {
+            for (PautaDTO.Linha linha : pautaService.buscarPorTurma(turmaId).getMatriculas()) {
+                if (alunoId.equals(linha.getAlunoId())) {
+                    desempenho.somaMedias += linha.getNotaFinal();
+                    desempenho.turmas++;
+                }
+            }
+        }
+        saida.write(new RelatorioAlunoCreator(desempenho.nome, desempenho.media()).exportar());
+    }
+
+    private void gerarCurso(Long cursoId, String periodo, Writer saida) throws IOException {
+        // cabeçalho: uma consulta agregada (em cache), sem percorrer as turmas
+        ResumoCursoDTO resumo = resumoCursoService.resumir(cursoId, periodo);
+        saida.write(new RelatorioCursoCreator(resumo.getCurso(), (int) resumo.getAlunosAtivos(), resumo.getPeriodo(),
+                resumo.getTurmas(), resumo.getMediaFinal(), resumo.getFrequenciaMedia()).exportar());
+
+        // detalhe por aluno: médias finais das pautas das turmas do curso
+        Map<Long, Desempenho> porAluno = new HashMap<>();
+        for (Long turmaId : turmaRepository.findIdsDoCurso(cursoId, resumo.getPeriodo())) {
+            for (PautaDTO.Linha linha : pautaService.buscarPorTurma(turmaId).getMatriculas()) {
+                Desempenho d = porAluno.computeIfAbsent(linha.getAlunoId(), id -> new Desempenho(linha.getAlunoNome()));
+                d.somaMedias += linha.getNotaFinal();
+                d.turmas++;
+            }
+        }
+
+        List<Desempenho> alunos = new ArrayList<>(porAluno.values());
+        alunos.sort(Comparator.comparing(d -> d.nome, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        for (Desempenho d : alunos) {
+            saida.write(new RelatorioAlunoCreator(d.nome, d.media()).exportar());
+        }
+    }
+}
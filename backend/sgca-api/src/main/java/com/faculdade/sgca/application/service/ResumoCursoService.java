@@ -0,0 +1,83 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.ResumoCursoDTO;
+import com.faculdade.sgca.infrastructure.repository.CursoRepository;
+import com.faculdade.sgca.infrastructure.repository.ResumoCursoJdbcRepository;
+import com.faculdade.sgca.infrastructure.repository.ResumoCursoJdbcRepository.Resumo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Indicadores do curso para o {@code RelatorioCurso} e para a API. Cada
+ * resumo sai de uma única consulta agregada e fica num cache de TTL curto:
+ * são números de acompanhamento, e alguns segundos de atraso custam menos
+ * que recalcular a cada pedido.
+ */
+@Service
+public class ResumoCursoService {
+
+    private record Chave(Long cursoId, String periodo) {
+    }
+
+    private final ResumoCursoJdbcRepository repository;
+    private final CursoRepository cursoRepository;
+    private final Cache<Chave, ResumoCursoDTO> resumos;
+    private final Cache<Long, List<ResumoCursoDTO>> porPeriodo;
+
+    public ResumoCursoService(ResumoCursoJdbcRepository repository,
+                              CursoRepository cursoRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${sgca.relatorios.resumo-curso.ttl-segundos:60}") long ttlSegundos,
+                              @Value("${sgca.relatorios.resumo-curso.max-entradas:1000}") long maxEntradas) {
+        this.repository = repository;
+        this.cursoRepository = cursoRepository;
+        this.resumos = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        this.porPeriodo = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, resumos, "resumo-curso");
+        CaffeineCacheMetrics.monitor(meterRegistry, porPeriodo, "resumo-curso-periodos");
+    }
+
+    // ============================================================
+    // 🔹 RESUMO DO CURSO (TOTAL OU DE UM PERÍODO)
+    // ============================================================
+    public ResumoCursoDTO resumir(Long cursoId, String periodo) {
+        String filtro = periodo == null || periodo.isBlank() ? null : periodo.trim();
+        return resumos.get(new Chave(cursoId, filtro), chave -> repository.resumir(chave.cursoId(), chave.periodo())
+                .map(r -> toDTO(chave.cursoId(), r))
+                .orElseThrow(() -> new IllegalArgumentException("Curso não encontrado.")));
+    }
+
+    // ============================================================
+    // 🔹 RESUMO POR PERÍODO
+    // ============================================================
+    public List<ResumoCursoDTO> resumirPorPeriodo(Long cursoId) {
+        return porPeriodo.get(cursoId, id -> {
+            List<Resumo> linhas = repository.resumirPorPeriodo(id);
+            if (linhas.isEmpty() && !cursoRepository.existsById(id)) {
+                throw new IllegalArgumentException("Curso não encontrado.");
+            }
+            return linhas.stream().map(r -> toDTO(id, r)).toList();
+        });
+    }
+
+    private static ResumoCursoDTO toDTO(Long cursoId, Resumo r) {
+        return new ResumoCursoDTO(cursoId, r.curso(), r.periodo(), r.turmas(), r.alunosAtivos(),
+                r.mediaFinal(), r.frequenciaMedia(), Instant.now());
+    }
+}
@@ -0,0 +1,221 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.RolloverJobDTO;
+import com.faculdade.sgca.application.dto.RolloverPeriodoDTO;
+import com.faculdade.sgca.application.event.PautaAlteradaEvent;
+import com.faculdade.sgca.infrastructure.repository.RolloverJdbcRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Abertura de um período copiando as turmas e os modelos de avaliação de
+ * outro, com INSERT … SELECT numa única transação em vez de uma chamada à
+ * API por turma e por avaliação.
+ * <p>
+ * A simulação responde na hora com as contagens. A cópia real roda em
+ * segundo plano, uma por vez, e a situação fica consultável pelo id do job
+ * até expirar. Pedidos repetidos para o mesmo par origem/destino enquanto
+ * um job está na fila ou rodando devolvem o mesmo job.
+ */
+@Slf4j
+@Service
+public class RolloverService {
+
+    private static final int TAMANHO_MAX_PERIODO = 20;
+
+    private final RolloverJdbcRepository repository;
+    private final ApplicationEventPublisher eventos;
+    private final TransactionTemplate transacao;
+    private final ThreadPoolExecutor executor;
+
+    private final Cache<String, RolloverJobDTO> jobs;
+    // origem→destino com job na fila ou rodando
+    private final Map<String, String> emAndamento = new ConcurrentHashMap<>();
+
+    public RolloverService(RolloverJdbcRepository repository,
+                           ApplicationEventPublisher eventos,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${sgca.rollover.fila:16}") int capacidadeFila,
+                           @Value("${sgca.rollover.retencao-horas:24}") long retencaoHoras) {
+        this.repository = repository;
+        this.eventos = eventos;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                r -> {
+                    Thread t = new Thread(r, "rollover-periodo");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(retencaoHoras))
+                .build();
+    }
+
+    // ============================================================
+    // 🔹 SIMULAR (SÓ CONTAGENS, NADA É GRAVADO)
+    // ============================================================
+    public RolloverJobDTO simular(RolloverPeriodoDTO dto) {
+        RolloverJobDTO previa = novoJob(dto);
+        previa.setStatus(RolloverJobDTO.SIMULADO);
+        previa.setTurmasOrigem(repository.contarTurmasOrigem(previa.getPeriodoOrigem()));
+        previa.setTurmasCriadas(repository.contarTurmasNovas(previa.getPeriodoOrigem(), previa.getPeriodoDestino()));
+        previa.setTurmasExistentes(previa.getTurmasOrigem() - previa.getTurmasCriadas());
+        previa.setAvaliacoesCopiadas(repository.contarAvaliacoesNovas(previa.getPeriodoOrigem(), previa.getPeriodoDestino()));
+        previa.setDisciplinasAmbiguas(repository.contarDisciplinasAmbiguas(previa.getPeriodoOrigem(), previa.getPeriodoDestino()));
+        previa.setConcluidoEm(Instant.now());
+        return previa;
+    }
+
+    // ============================================================
+    // 🔹 INICIAR (ENFILEIRA E RETORNA O JOB)
+    // ============================================================
+    public RolloverJobDTO iniciar(RolloverPeriodoDTO dto) {
+        RolloverJobDTO job = novoJob(dto);
+        job.setTurmasOrigem(repository.contarTurmasOrigem(job.getPeriodoOrigem()));
+        if (job.getTurmasOrigem() == 0) {
+            throw new IllegalArgumentException("Nenhuma turma encontrada no período " + job.getPeriodoOrigem() + ".");
+        }
+
+        String chave = job.getPeriodoOrigem() + "→" + job.getPeriodoDestino();
+        String novoId = UUID.randomUUID().toString();
+        String existente = emAndamento.putIfAbsent(chave, novoId);
+        if (existente != null) {
+            RolloverJobDTO atual = jobs.getIfPresent(existente);
+            if (atual != null) {
+                return atual;
+            }
+            emAndamento.put(chave, novoId);
+        }
+
+        job.setId(novoId);
+        job.setStatus(RolloverJobDTO.AGUARDANDO);
+        jobs.put(novoId, job);
+        try {
+            executor.execute(() -> executar(chave, job));
+        } catch (RejectedExecutionException e) {
+            emAndamento.remove(chave, novoId);
+            jobs.invalidate(novoId);
+            throw new IllegalStateException("Fila de aberturas de período cheia. Tente novamente em instantes.");
+        }
+        return job;
+    }
+
+    // ============================================================
+    // 🔹 CONSULTAR
+    // ============================================================
+    public RolloverJobDTO buscar(String id) {
+        RolloverJobDTO job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new IllegalArgumentException("Job de abertura de período não encontrado.");
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    // ============================================================
+    // 🔹 EXECUÇÃO EM SEGUNDO PLANO
+    // ============================================================
+    private void executar(String chave, RolloverJobDTO enfileirado) {
+        RolloverJobDTO job = copia(enfileirado);
+        job.setStatus(RolloverJobDTO.PROCESSANDO);
+        jobs.put(job.getId(), copia(job));
+
+        String origem = job.getPeriodoOrigem();
+        String destino = job.getPeriodoDestino();
+        try {
+            RolloverJdbcRepository.Copia resultado = transacao.execute(status -> {
+                // contadas antes da cópia: depois dela toda disciplina tem turma no destino
+                job.setDisciplinasAmbiguas(repository.contarDisciplinasAmbiguas(origem, destino));
+                RolloverJdbcRepository.Copia feita = repository.copiar(origem, destino, job.isManterProfessor());
+                // turmas do destino que já existiam podem ter ganhado avaliações
+                eventos.publishEvent(PautaAlteradaEvent.todas());
+                return feita;
+            });
+            job.setTurmasCriadas(resultado.turmas());
+            job.setTurmasExistentes(job.getTurmasOrigem() - resultado.turmas());
+            job.setAvaliacoesCopiadas(resultado.avaliacoes());
+            job.setStatus(RolloverJobDTO.CONCLUIDO);
+            log.info("Período {} aberto a partir de {}: {} turmas e {} avaliações copiadas, {} disciplinas ambíguas",
+                    destino, origem, resultado.turmas(), resultado.avaliacoes(), job.getDisciplinasAmbiguas());
+        } catch (RuntimeException e) {
+            job.setStatus(RolloverJobDTO.FALHOU);
+            job.setErro(e.getMessage());
+            log.error("Falha ao abrir o período {} a partir de {}", destino, origem, e);
+        } finally {
+            job.setConcluidoEm(Instant.now());
+            jobs.put(job.getId(), job);
+            emAndamento.remove(chave, job.getId());
+        }
+    }
+
+    // ============================================================
+    // 🔹 VALIDAÇÃO
+    // ============================================================
+    private static RolloverJobDTO novoJob(RolloverPeriodoDTO dto) {
+        String origem = periodo(dto.getPeriodoOrigem(), "periodoOrigem");
+        String destino = periodo(dto.getPeriodoDestino(), "periodoDestino");
+        if (origem.equals(destino)) {
+            throw new IllegalArgumentException("Os períodos de origem e destino devem ser diferentes.");
+        }
+
+        RolloverJobDTO job = new RolloverJobDTO();
+        job.setPeriodoOrigem(origem);
+        job.setPeriodoDestino(destino);
+        job.setManterProfessor(dto.getManterProfessor() == null || dto.getManterProfessor());
+        job.setSolicitadoEm(Instant.now());
+        return job;
+    }
+
+    private static String periodo(String valor, String campo) {
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("O campo '" + campo + "' é obrigatório.");
+        }
+        String periodo = valor.trim();
+        if (periodo.length() > TAMANHO_MAX_PERIODO) {
+            throw new IllegalArgumentException("O campo '" + campo + "' deve ter no máximo "
+                    + TAMANHO_MAX_PERIODO + " caracteres.");
+        }
+        return periodo;
+    }
+
+    // o cache guarda instantâneos: quem consulta nunca vê um job pela metade
+    private static RolloverJobDTO copia(RolloverJobDTO origem) {
+        RolloverJobDTO job = new RolloverJobDTO();
+        job.setId(origem.getId());
+        job.setStatus(origem.getStatus());
+        job.setPeriodoOrigem(origem.getPeriodoOrigem());
+        job.setPeriodoDestino(origem.getPeriodoDestino());
+        job.setManterProfessor(origem.isManterProfessor());
+        job.setTurmasOrigem(origem.getTurmasOrigem());
+        job.setTurmasCriadas(origem.getTurmasCriadas());
+        job.setTurmasExistentes(origem.getTurmasExistentes());
+        job.setAvaliacoesCopiadas(origem.getAvaliacoesCopiadas());
+        job.setDisciplinasAmbiguas(origem.getDisciplinasAmbiguas());
+        job.setErro(origem.getErro());
+        job.setSolicitadoEm(origem.getSolicitadoEm());
+        job.setConcluidoEm(origem.getConcluidoEm());
+        return job;
+    }
+}
@@ -0,0 +1,25 @@
+package com.faculdade.sgca.application.service;
+
+import java.util.Locale;
+
+/**
+ * Relatórios que podem ser pedidos ao motor de relatórios.
+ */
+public enum TipoRelatorio {
+
+    // desempenho de um aluno (média das médias finais das suas matrículas)
+    ALUNO,
+    // resumo do curso seguido do desempenho de cada aluno do curso
+    CURSO;
+
+    public static TipoRelatorio de(String valor) {
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("O campo 'tipo' é obrigatório.");
+        }
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de relatório inválido: " + valor + ". Use aluno ou curso.");
+        }
+    }
+}
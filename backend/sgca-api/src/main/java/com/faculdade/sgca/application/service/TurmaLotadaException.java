@@ -0,0 +1,13 @@
+package com.faculdade.sgca.application.service;
+
+/**
+ * Lançada por {@link VagaService#ocupar} quando a turma não tem vaga. Continua
+ * sendo um {@link IllegalStateException} (409) para quem não trata a lista de
+ * espera; a criação de matrícula a trata colocando o aluno na fila.
+ */
+public class TurmaLotadaException extends IllegalStateException {
+
+    public TurmaLotadaException() {
+        super("Turma sem vagas disponíveis.");
+    }
+}
@@ -1,6 +1,7 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.TurmaDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.TurmaMapper;
 import com.faculdade.sgca.domain.model.Disciplina;
 import com.faculdade.sgca.domain.model.Turma;
@@ -22,12 +23,12 @@ public class TurmaService {
     private final DisciplinaRepository disciplinaRepository;
     private final UsuarioRepository usuarioRepository;
     private final TurmaMapper mapper;
+    private final VagaService vagaService;
 
-    // 🔹 LISTAR TODAS
-    public List<TurmaDTO> listarTodas() {
-        return repository.findAll().stream()
-                .map(mapper::toDTO)
-                .toList();
+    // 🔹 LISTAR PAGINADO (KEYSET)
+    public PaginaCursor<TurmaDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Turma::getId, mapper::toDTO);
     }
 
     // 🔹 BUSCAR POR ID
@@ -106,9 +107,11 @@ public class TurmaService {
 
     // 🔹 ATUALIZAR
     @Transactional
-    public TurmaDTO atualizar(Long id, TurmaDTO dto) {
+    public TurmaDTO atualizar(Long id, TurmaDTO dto, Long versaoEsperada) {
         Turma turma = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Turma não encontrada."));
+        VersaoDivergenteException.verificar(turma.getVersao(), versaoEsperada);
+        Integer capacidadeAntiga = turma.getCapacidade();
 
         if (dto.getPeriodo() != null) turma.setPeriodo(dto.getPeriodo());
         if (dto.getCapacidade() != null) turma.setCapacidade(dto.getCapacidade());
@@ -119,7 +122,8 @@ public class TurmaService {
             turma.setProfessor(professor);
         }
 
-        Turma atualizada = repository.save(turma);
+        Turma atualizada = repository.saveAndFlush(turma);
+        vagaService.capacidadeAlterada(id, capacidadeAntiga, atualizada.getCapacidade());
         return mapper.toDTO(atualizada);
     }
 
@@ -1,6 +1,7 @@
 package com.faculdade.sgca.application.service;
 
 import com.faculdade.sgca.application.dto.UsuarioDTO;
+import com.faculdade.sgca.application.dto.PaginaCursor;
 import com.faculdade.sgca.application.mapper.UsuarioMapper;
 import com.faculdade.sgca.domain.model.PerfilUsuario;
 import com.faculdade.sgca.domain.model.Usuario;
@@ -10,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -21,13 +21,11 @@ public class UsuarioService {
     private final PasswordEncoder passwordEncoder;
 
     // -------------------------------------------------
-    // LISTAR TODOS
+    // LISTAR PAGINADO (KEYSET)
     // -------------------------------------------------
-    public List<UsuarioDTO> listarTodos() {
-        return repository.findAll()
-                .stream()
-                .map(mapper::toDTO)
-                .toList();
+    public PaginaCursor<UsuarioDTO> listarPagina(String after, Integer limit) {
+        return Paginacao.paginar(after, limit,
+                repository::findByIdGreaterThanOrderByIdAsc, Usuario::getId, mapper::toDTO);
     }
 
     // -------------------------------------------------
@@ -73,11 +71,13 @@ public class UsuarioService {
                                 String nome,
                                 String email,
                                 String senha,
-                                PerfilUsuario perfil) {
+                                PerfilUsuario perfil,
+                                Long versaoEsperada) {
 
         Usuario usuario = repository.findById(id)
                 .orElseThrow(() ->
                         new IllegalArgumentException("Usuário não encontrado com ID: " + id));
+        VersaoDivergenteException.verificar(usuario.getVersao(), versaoEsperada);
 
         // nome
         if (nome != null && !nome.isBlank()) {
@@ -102,7 +102,7 @@ public class UsuarioService {
             usuario.setPerfil(perfil);
         }
 
-        Usuario atualizado = repository.save(usuario);
+        Usuario atualizado = repository.saveAndFlush(usuario);
 
         return mapper.toDTO(atualizado);
     }
@@ -0,0 +1,163 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.event.VagaLiberadaEvent;
+import com.faculdade.sgca.domain.model.Turma;
+import com.faculdade.sgca.infrastructure.repository.VagaJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Vagas das turmas. Só matrícula ATIVA ocupa vaga; o contador em
+ * {@code turma.vagas_disponiveis} é decrementado e devolvido dentro da
+ * transação de quem matricula, exclui ou muda a situação, então um rollback
+ * desfaz também o movimento de vaga.
+ * <p>
+ * A reconciliação (na subida e agendada) recalcula os contadores que
+ * divergem de capacidade menos matrículas ATIVAS, uma turma por transação.
+ * <p>
+ * Todo movimento que pode abrir vaga publica {@link VagaLiberadaEvent}, que
+ * aciona a lista de espera da turma.
+ */
+@Slf4j
+@Service
+public class VagaService {
+
+    public static final String SITUACAO_ATIVA = "ATIVA";
+
+    private final VagaJdbcRepository repository;
+    private final TransactionTemplate transacao;
+    private final ApplicationEventPublisher eventos;
+    private final Counter corrigidos;
+
+    private final AtomicBoolean reconciliando = new AtomicBoolean();
+
+    public VagaService(VagaJdbcRepository repository,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventos,
+                       MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.eventos = eventos;
+        this.corrigidos = Counter.builder("sgca.vagas.reconciliacao.corrigidos")
+                .description("Contadores de vagas corrigidos pela reconciliação")
+                .register(meterRegistry);
+    }
+
+    // ============================================================
+    // 🔹 MOVIMENTO DE VAGAS (NA TRANSAÇÃO DE QUEM CHAMA)
+    // ============================================================
+    public static boolean ocupaVaga(String situacao) {
+        return SITUACAO_ATIVA.equals(situacao);
+    }
+
+    /**
+     * Ocupa uma vaga da turma; turma sem capacidade não tem limite.
+     *
+     * @throws TurmaLotadaException quando a turma está lotada
+     */
+    public void ocupar(Turma turma) {
+        if (turma.getCapacidade() != null && !repository.ocupar(turma.getId())) {
+            throw new TurmaLotadaException();
+        }
+    }
+
+    public void liberar(Long turmaId) {
+        repository.devolver(turmaId, 1);
+        eventos.publishEvent(new VagaLiberadaEvent(turmaId));
+    }
+
+    /**
+     * Devolve vagas reservadas e não usadas, sem acionar a lista de espera.
+     */
+    public void devolver(Long turmaId, int quantidade) {
+        repository.devolver(turmaId, quantidade);
+    }
+
+    /**
+     * Ocupa até {@code quantidade} vagas de uma vez (importação).
+     *
+     * @return quantas couberam
+     */
+    public int reservar(Long turmaId, int quantidade) {
+        return repository.reservar(turmaId, quantidade);
+    }
+
+    /**
+     * Chamado depois de gravar a nova capacidade. Entre dois limites basta
+     * somar a diferença; ao ganhar ou perder o limite o contador é recontado.
+     */
+    public void capacidadeAlterada(Long turmaId, Integer antiga, Integer nova) {
+        if (Objects.equals(antiga, nova)) {
+            return;
+        }
+        if (antiga != null && nova != null) {
+            repository.devolver(turmaId, nova - antiga);
+        } else {
+            repository.recontar(turmaId);
+        }
+        if (nova == null || (antiga != null && nova > antiga)) {
+            eventos.publishEvent(new VagaLiberadaEvent(turmaId));
+        }
+    }
+
+    // ============================================================
+    // 🔹 RECONCILIAÇÃO
+    // ============================================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconciliarNaSubida() {
+        reconciliarAgendado();
+    }
+
+    @Scheduled(cron = "${sgca.vagas.reconciliacao.cron:0 45 3 * * *}")
+    public void reconciliarAgendado() {
+        try {
+            reconciliar();
+        } catch (IllegalStateException e) {
+            log.info("Reconciliação de vagas ignorada: já existe uma em andamento.");
+        }
+    }
+
+    /**
+     * @return turmas verificadas e contadores corrigidos
+     */
+    public Map<String, Integer> reconciliar() {
+        if (!reconciliando.compareAndSet(false, true)) {
+            throw new IllegalStateException("Já existe uma reconciliação de vagas em andamento.");
+        }
+        try {
+            // matrículas em andamento também aparecem aqui; a recontagem sob trava decide
+            List<Long> turmas = repository.turmasDivergentes();
+            int total = 0;
+            for (Long turmaId : turmas) {
+                Boolean corrigido = transacao.execute(s -> {
+                    boolean recontado = repository.recontar(turmaId);
+                    if (recontado) {
+                        eventos.publishEvent(new VagaLiberadaEvent(turmaId));
+                    }
+                    return recontado;
+                });
+                total += Boolean.TRUE.equals(corrigido) ? 1 : 0;
+            }
+            corrigidos.increment(total);
+            if (total > 0) {
+                log.warn("Reconciliação de vagas corrigiu {} turmas.", total);
+            }
+            return Map.of("turmasVerificadas", turmas.size(), "contadoresCorrigidos", total);
+        } finally {
+            reconciliando.set(false);
+        }
+    }
+}
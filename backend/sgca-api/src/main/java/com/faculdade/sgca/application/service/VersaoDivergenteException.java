@@ -0,0 +1,26 @@
+package com.faculdade.sgca.application.service;
+
+/**
+ * Lançada quando a alteração veio com uma versão esperada (If-Match) que
+ * não é mais a do registro. O controller deve responder 412.
+ * <p>
+ * Os services gravam as alterações com {@code saveAndFlush}: o incremento do
+ * {@code @Version} acontece ali, e o DTO devolvido (e o ETag) já sai com a
+ * versão nova.
+ */
+public class VersaoDivergenteException extends RuntimeException {
+
+    public VersaoDivergenteException(long versaoAtual) {
+        super("O registro foi alterado por outra requisição (versão atual: " + versaoAtual
+                + "). Busque-o novamente antes de alterar.");
+    }
+
+    /**
+     * Sem versão esperada (If-Match ausente ou "*"), qualquer versão serve.
+     */
+    public static void verificar(long versaoAtual, Long versaoEsperada) {
+        if (versaoEsperada != null && versaoEsperada != versaoAtual) {
+            throw new VersaoDivergenteException(versaoAtual);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.faculdade.sgca.domain.avaliacao;
+
+import com.faculdade.sgca.domain.avaliacao.impl.Participacao;
+import com.faculdade.sgca.domain.avaliacao.impl.Prova;
+import com.faculdade.sgca.domain.avaliacao.impl.Trabalho;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Resolve a regra de cálculo a partir do texto gravado em {@code avaliacao.tipo}.
+ * As implementações não têm estado, então uma instância de cada é compartilhada.
+ */
+public final class TiposAvaliacao {
+
+    private static final TipoAvaliacao PROVA = new Prova();
+    private static final TipoAvaliacao TRABALHO = new Trabalho();
+    private static final TipoAvaliacao PARTICIPACAO = new Participacao();
+
+    private TiposAvaliacao() {
+    }
+
+    public static Optional<TipoAvaliacao> buscar(String tipo) {
+        if (tipo == null) {
+            return Optional.empty();
+        }
+        return switch (tipo.trim().toUpperCase(Locale.ROOT)) {
+            case "PROVA" -> Optional.of(PROVA);
+            case "TRABALHO" -> Optional.of(TRABALHO);
+            case "PARTICIPACAO" -> Optional.of(PARTICIPACAO);
+            default -> Optional.empty();
+        };
+    }
+
+    public static TipoAvaliacao de(String tipo) {
+        return buscar(tipo)
+                .orElseThrow(() -> new IllegalArgumentException("Tipo de avaliação inválido: " + tipo));
+    }
+}
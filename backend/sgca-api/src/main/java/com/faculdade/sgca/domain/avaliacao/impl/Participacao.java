@@ -3,6 +3,9 @@ package com.faculdade.sgca.domain.avaliacao.impl;
 import com.faculdade.sgca.domain.avaliacao.TipoAvaliacao;
 
 public class Participacao implements TipoAvaliacao {
+
+    public static final double NOTA_MAXIMA = 8;
+
     @Override
     public String getDescricao() {
         return "Participação em aula e engajamento";
@@ -11,7 +14,7 @@ public class Participacao implements TipoAvaliacao {
     @Override
     public double calcularNotaFinal(double valorObtido, double peso) {
         // Participação tem peso reduzido (máximo 8)
-        double nota = Math.min(valorObtido, 8);
+        double nota = Math.min(valorObtido, NOTA_MAXIMA);
         return nota * (peso / 100);
     }
 }
\ No newline at end of file
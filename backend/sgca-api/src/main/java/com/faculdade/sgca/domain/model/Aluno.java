@@ -2,6 +2,7 @@
 package com.faculdade.sgca.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import lombok.NoArgsConstructor;
 
@@ -13,9 +14,15 @@ import java.time.LocalDate;
 public class Aluno {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "aluno_seq")
+    @SequenceGenerator(name = "aluno_seq", sequenceName = "aluno_id_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 120)
     private String nome;
 
@@ -78,4 +85,8 @@ public class Aluno {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public long getVersao() {
+        return versao;
+    }
 }
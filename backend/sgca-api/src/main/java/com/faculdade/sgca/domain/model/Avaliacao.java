@@ -2,7 +2,9 @@ package com.faculdade.sgca.domain.model;
 
 
 import com.faculdade.sgca.domain.avaliacao.TipoAvaliacao;
+import com.faculdade.sgca.domain.avaliacao.TiposAvaliacao;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.NoArgsConstructor;
 
 
@@ -12,9 +14,15 @@ import lombok.NoArgsConstructor;
 public class Avaliacao {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "avaliacao_seq")
+    @SequenceGenerator(name = "avaliacao_seq", sequenceName = "avaliacao_id_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false)
     private String titulo;
 
@@ -38,6 +46,12 @@ public class Avaliacao {
         this.implementacao = implementacao;
     }
 
+    // a regra não é persistida: é reconstruída a partir do tipo ao carregar do banco
+    @PostLoad
+    void restaurarImplementacao() {
+        this.implementacao = TiposAvaliacao.buscar(tipo).orElse(null);
+    }
+
     public double calcularNotaFinal(double valorObtido) {
         if (implementacao == null)
             throw new IllegalStateException("Tipo de avaliação não definido.");
@@ -91,4 +105,8 @@ public class Avaliacao {
     public void setImplementacao(TipoAvaliacao implementacao) {
         this.implementacao = implementacao;
     }
+
+    public long getVersao() {
+        return versao;
+    }
 }
\ No newline at end of file
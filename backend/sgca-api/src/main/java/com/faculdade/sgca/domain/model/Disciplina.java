@@ -1,21 +1,32 @@
 package com.faculdade.sgca.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
 @Table(name = "disciplina")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "disciplina")
 @Getter
 @Setter
 @NoArgsConstructor
 public class Disciplina {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "disciplina_seq")
+    @SequenceGenerator(name = "disciplina_seq", sequenceName = "disciplina_id_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, unique = true, length = 20)
     private String codigo;
 
@@ -25,7 +36,7 @@ public class Disciplina {
     @Column(nullable = false)
     private int cargaHoraria;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "curso_id", nullable = false)
     private Curso curso;
 
@@ -68,4 +79,8 @@ public class Disciplina {
     public void setCurso(Curso curso) {
         this.curso = curso;
     }
+
+    public long getVersao() {
+        return versao;
+    }
 }
@@ -0,0 +1,39 @@
+package com.faculdade.sgca.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Contadores de frequência por matrícula: aulas com chamada registrada e
+ * presenças. Mantidos por incremento (SQL nativo) a cada escrita de
+ * presença e reconstruídos periodicamente a partir da tabela presenca;
+ * pelo JPA a entidade só é lida.
+ */
+@Entity
+@Immutable
+@Table(name = "frequencia_matricula",
+        indexes = @Index(name = "idx_frequencia_matricula_turma", columnList = "turma_id"))
+@Getter
+@NoArgsConstructor
+public class FrequenciaMatricula {
+
+    @Id
+    @Column(name = "matricula_id")
+    private Long matriculaId;
+
+    @Column(name = "turma_id", nullable = false)
+    private Long turmaId;
+
+    @Column(nullable = false)
+    private int aulas;
+
+    @Column(nullable = false)
+    private int presencas;
+
+    @Column(name = "atualizada_em", nullable = false)
+    private Instant atualizadaEm;
+}
@@ -0,0 +1,72 @@
+package com.faculdade.sgca.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Progresso de uma importação em lote. É atualizado na mesma transação de
+ * cada bloco gravado, então {@code linhasLidas} sempre aponta para o ponto
+ * exato onde uma importação interrompida deve ser retomada.
+ */
+@Entity
+@Table(name = "importacao_job")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImportacaoJob {
+
+    public static final String TIPO_ALUNOS = "ALUNOS";
+    public static final String TIPO_MATRICULAS = "MATRICULAS";
+
+    public static final String PROCESSANDO = "PROCESSANDO";
+    public static final String INTERROMPIDA = "INTERROMPIDA";
+    public static final String CONCLUIDA = "CONCLUIDA";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "importacao_job_seq")
+    @SequenceGenerator(name = "importacao_job_seq", sequenceName = "importacao_job_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    @Column(nullable = false, length = 10)
+    private String formato;
+
+    @Column(nullable = false, length = 20)
+    private String status = PROCESSANDO;
+
+    // linhas físicas do arquivo já consumidas e confirmadas (inclui o cabeçalho do CSV)
+    @Column(name = "linhas_lidas", nullable = false)
+    private long linhasLidas;
+
+    @Column(nullable = false)
+    private long importadas;
+
+    @Column(nullable = false)
+    private long rejeitadas;
+
+    @Column(name = "blocos_confirmados", nullable = false)
+    private int blocosConfirmados;
+
+    @Column(length = 500)
+    private String erro;
+
+    @Column(name = "iniciada_em", nullable = false)
+    private Instant iniciadaEm = Instant.now();
+
+    @Column(name = "atualizada_em", nullable = false)
+    private Instant atualizadaEm = Instant.now();
+
+    @Column(name = "concluida_em")
+    private Instant concluidaEm;
+
+    public ImportacaoJob(String tipo, String formato) {
+        this.tipo = tipo;
+        this.formato = formato;
+    }
+}
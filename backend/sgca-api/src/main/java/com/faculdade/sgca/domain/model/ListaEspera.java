@@ -0,0 +1,41 @@
+package com.faculdade.sgca.domain.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entrada na lista de espera de uma turma lotada. A linha existe só enquanto
+ * o aluno espera: ao ser promovido a matrícula, ou ao desistir, ela é apagada.
+ * <p>
+ * O id é a ordem da fila. Por isso a sequência não usa o otimizador pooled
+ * das outras entidades (allocationSize 1): com blocos reservados por instância
+ * a ordem dos ids deixaria de ser a ordem de chegada.
+ */
+@Entity
+@Table(name = "lista_espera",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lista_espera_aluno_turma",
+                columnNames = {"aluno_id", "turma_id"}),
+        indexes = @Index(name = "idx_lista_espera_turma_ordem", columnList = "turma_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ListaEspera {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lista_espera_seq")
+    @SequenceGenerator(name = "lista_espera_seq", sequenceName = "lista_espera_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "aluno_id", nullable = false)
+    private Long alunoId;
+
+    @Column(name = "turma_id", nullable = false)
+    private Long turmaId;
+
+    @Column(name = "entrada_em", nullable = false)
+    private Instant entradaEm = Instant.now();
+}
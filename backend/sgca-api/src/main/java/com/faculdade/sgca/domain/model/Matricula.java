@@ -1,6 +1,7 @@
 package com.faculdade.sgca.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import lombok.NoArgsConstructor;
 
@@ -15,14 +16,20 @@ import java.time.LocalDate;
 public class Matricula {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matricula_seq")
+    @SequenceGenerator(name = "matricula_seq", sequenceName = "matricula_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "aluno_id", nullable = false)
     private Aluno aluno;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "turma_id", nullable = false)
     private Turma turma;
 
@@ -71,4 +78,8 @@ public class Matricula {
     public void setSituacao(String situacao) {
         this.situacao = situacao;
     }
+
+    public long getVersao() {
+        return versao;
+    }
 }
@@ -1,6 +1,7 @@
 package com.faculdade.sgca.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import lombok.NoArgsConstructor;
 
@@ -16,14 +17,20 @@ import java.time.LocalDateTime;
 public class Nota {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "nota_seq")
+    @SequenceGenerator(name = "nota_seq", sequenceName = "nota_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "avaliacao_id", nullable = false)
     private Avaliacao avaliacao;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "matricula_id", nullable = false)
     private Matricula matricula;
 
@@ -72,4 +79,8 @@ public class Nota {
     public void setData(LocalDateTime data) {
         this.data = data;
     }
+
+    public long getVersao() {
+        return versao;
+    }
 }
@@ -1,6 +1,7 @@
     package com.faculdade.sgca.domain.model;
 
     import jakarta.persistence.*;
+    import org.hibernate.annotations.ColumnDefault;
     import lombok.Getter;
     import lombok.NoArgsConstructor;
     import lombok.Setter;
@@ -16,14 +17,20 @@
     public class Presenca {
 
         @Id
-        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "presenca_seq")
+        @SequenceGenerator(name = "presenca_seq", sequenceName = "presenca_id_seq", allocationSize = 50)
         private Long id;
 
-        @ManyToOne(optional = false)
+        @Version
+        @ColumnDefault("0")
+        @Column(nullable = false)
+        private long versao;
+
+        @ManyToOne(fetch = FetchType.LAZY, optional = false)
         @JoinColumn(name = "turma_id", nullable = false)
         private Turma turma;
 
-        @ManyToOne(optional = false)
+        @ManyToOne(fetch = FetchType.LAZY, optional = false)
         @JoinColumn(name = "matricula_id", nullable = false)
         private Matricula matricula;
 
@@ -72,4 +79,8 @@
         public void setPresente(boolean presente) {
             this.presente = presente;
         }
+
+        public long getVersao() {
+            return versao;
+        }
     }
@@ -0,0 +1,57 @@
+package com.faculdade.sgca.domain.model;
+
+import jakarta.persistence.*;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "token_revogado",
+        indexes = {
+                @Index(name = "idx_token_revogado_expira_em", columnList = "expira_em"),
+                @Index(name = "idx_token_revogado_revogado_em", columnList = "revogado_em")
+        }
+)
+@NoArgsConstructor
+public class TokenRevogado {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "expira_em", nullable = false)
+    private Instant expiraEm;
+
+    @Column(name = "revogado_em", nullable = false)
+    private Instant revogadoEm = Instant.now();
+
+    public TokenRevogado(String jti, Instant expiraEm) {
+        this.jti = jti;
+        this.expiraEm = expiraEm;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public Instant getExpiraEm() {
+        return expiraEm;
+    }
+
+    public void setExpiraEm(Instant expiraEm) {
+        this.expiraEm = expiraEm;
+    }
+
+    public Instant getRevogadoEm() {
+        return revogadoEm;
+    }
+
+    public void setRevogadoEm(Instant revogadoEm) {
+        this.revogadoEm = revogadoEm;
+    }
+}
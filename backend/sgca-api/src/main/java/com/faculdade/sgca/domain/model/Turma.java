@@ -1,33 +1,50 @@
 package com.faculdade.sgca.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
 @Table(name = "turma")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "turma")
 
 @NoArgsConstructor
 public class Turma {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "turma_seq")
+    @SequenceGenerator(name = "turma_seq", sequenceName = "turma_id_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "disciplina_id", nullable = false)
     private Disciplina disciplina;
 
     @Column(nullable = false, length = 20)
     private String periodo; // Ex: 2025.1
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professor_id")
     private Usuario professor;
 
     private Integer capacidade;
 
+    // Vagas livres (capacidade - matrículas ATIVAS), nulo quando não há capacidade.
+    // A entidade só grava o valor inicial; depois ele muda por UPDATE condicional
+    // (VagaService), então o valor carregado aqui pode estar desatualizado.
+    @Column(name = "vagas_disponiveis", updatable = false)
+    private Integer vagasDisponiveis;
+
     public Long getId() {
         return id;
     }
@@ -67,4 +84,13 @@ public class Turma {
     public void setCapacidade(Integer capacidade) {
         this.capacidade = capacidade;
     }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    @PrePersist
+    void iniciarVagas() {
+        vagasDisponiveis = capacidade;
+    }
 }
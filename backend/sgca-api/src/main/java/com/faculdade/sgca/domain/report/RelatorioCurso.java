@@ -4,10 +4,23 @@ public class RelatorioCurso implements Relatorio {
 
     private final String nomeCurso;
     private final int qtdAlunos;
+    private final String periodo;
+    private final long qtdTurmas;
+    private final Double mediaFinal;
+    private final Double frequenciaMedia;
 
     public RelatorioCurso(String nomeCurso, int qtdAlunos) {
+        this(nomeCurso, qtdAlunos, null, 0, null, null);
+    }
+
+    public RelatorioCurso(String nomeCurso, int qtdAlunos, String periodo, long qtdTurmas,
+                          Double mediaFinal, Double frequenciaMedia) {
         this.nomeCurso = nomeCurso;
         this.qtdAlunos = qtdAlunos;
+        this.periodo = periodo;
+        this.qtdTurmas = qtdTurmas;
+        this.mediaFinal = mediaFinal;
+        this.frequenciaMedia = frequenciaMedia;
     }
 
     @Override
@@ -15,8 +28,17 @@ public class RelatorioCurso implements Relatorio {
         return """
                 ===== Relatório de Curso =====
                 Curso: %s
+                Período: %s
                 Total de Alunos: %d
+                Total de Turmas: %d
+                Média Final: %s
+                Frequência Média: %s
                 --------------------------------
-                """.formatted(nomeCurso, qtdAlunos);
+                """.formatted(nomeCurso,
+                periodo != null ? periodo : "todos",
+                qtdAlunos,
+                qtdTurmas,
+                mediaFinal != null ? "%.2f".formatted(mediaFinal) : "-",
+                frequenciaMedia != null ? "%.1f%%".formatted(frequenciaMedia) : "-");
     }
 }
@@ -4,14 +4,27 @@ public class RelatorioCursoCreator extends RelatorioCreator {
 
     private final String nomeCurso;
     private final int qtdAlunos;
+    private final String periodo;
+    private final long qtdTurmas;
+    private final Double mediaFinal;
+    private final Double frequenciaMedia;
 
     public RelatorioCursoCreator(String nomeCurso, int qtdAlunos) {
+        this(nomeCurso, qtdAlunos, null, 0, null, null);
+    }
+
+    public RelatorioCursoCreator(String nomeCurso, int qtdAlunos, String periodo, long qtdTurmas,
+                                 Double mediaFinal, Double frequenciaMedia) {
         this.nomeCurso = nomeCurso;
         this.qtdAlunos = qtdAlunos;
+        this.periodo = periodo;
+        this.qtdTurmas = qtdTurmas;
+        this.mediaFinal = mediaFinal;
+        this.frequenciaMedia = frequenciaMedia;
     }
 
     @Override
     public Relatorio criarRelatorio() {
-        return new RelatorioCurso(nomeCurso, qtdAlunos);
+        return new RelatorioCurso(nomeCurso, qtdAlunos, periodo, qtdTurmas, mediaFinal, frequenciaMedia);
     }
 }
@@ -0,0 +1,34 @@
+package com.faculdade.sgca.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR e Smile como alternativas ao JSON, escolhidas pelo cabeçalho Accept.
+ * <p>
+ * O Spring já registraria os dois conversores por estarem no classpath, mas com
+ * um ObjectMapper próprio; aqui eles saem do builder do Spring Boot e seguem a
+ * mesma configuração do JSON (datas, módulos, spring.jackson.*). Como substituem
+ * os padrões na mesma posição, depois do JSON, quem não pede um formato
+ * binário continua recebendo JSON.
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
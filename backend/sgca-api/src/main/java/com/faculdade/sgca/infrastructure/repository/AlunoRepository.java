@@ -1,9 +1,13 @@
 package com.faculdade.sgca.infrastructure.repository;
 
 import com.faculdade.sgca.domain.model.Aluno;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,21 @@ public interface AlunoRepository extends JpaRepository<Aluno, Long> {
     Optional<Aluno> findByCpf(String cpf);
     boolean existsByCpf(String cpf);
     boolean existsByEmail(String email);
+    Optional<Aluno> findByEmail(String email);
+
+    List<Aluno> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
+
+    // 🔹 Consultas por conjunto (validação de importação em blocos)
+    @Query("SELECT a.cpf FROM Aluno a WHERE a.cpf IN :cpfs")
+    List<String> findCpfsExistentes(Collection<String> cpfs);
+
+    @Query("SELECT a.email FROM Aluno a WHERE a.email IN :emails")
+    List<String> findEmailsExistentes(Collection<String> emails);
+
+    @Query("SELECT a.id FROM Aluno a WHERE a.id IN :ids")
+    List<Long> findIdsExistentes(Collection<Long> ids);
+
+    // cada linha: [cpf, id]
+    @Query("SELECT a.cpf, a.id FROM Aluno a WHERE a.cpf IN :cpfs")
+    List<Object[]> findIdsPorCpf(Collection<String> cpfs);
 }
@@ -1,6 +1,7 @@
 package com.faculdade.sgca.infrastructure.repository;
 
 import com.faculdade.sgca.domain.model.Avaliacao;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -28,4 +29,6 @@ public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long> {
      * Pode ser útil para relatórios e Bridge extensions.
      */
     List<Avaliacao> findByTipoIgnoreCase(String tipo);
+
+    List<Avaliacao> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
 }
@@ -0,0 +1,63 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Matrículas de um aluno com turma, disciplina e curso, cada uma repetida
+ * por avaliação da turma e com a nota lançada (ou nula), numa única
+ * consulta. Matrícula em turma sem avaliações vem numa linha só, com o lado
+ * da avaliação nulo.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoletimJdbcRepository {
+
+    public record Linha(Long matriculaId, String situacao, Long turmaId, String periodo,
+                        Long disciplinaId, String disciplina, Long cursoId, String curso,
+                        Long avaliacaoId, String titulo, String tipo, Double peso,
+                        Double valor, LocalDateTime lancadaEm) {
+    }
+
+    private static final String BOLETIM = """
+            SELECT m.id AS matricula_id, m.situacao, t.id AS turma_id, t.periodo,
+                   d.id AS disciplina_id, d.nome AS disciplina, c.id AS curso_id, c.nome AS curso,
+                   a.id AS avaliacao_id, a.titulo, a.tipo, a.peso, n.valor, n.data
+            FROM matricula m
+            JOIN turma t ON t.id = m.turma_id
+            JOIN disciplina d ON d.id = t.disciplina_id
+            JOIN curso c ON c.id = d.curso_id
+            LEFT JOIN avaliacao a ON a.turma_id = t.id
+            LEFT JOIN nota n ON n.matricula_id = m.id AND n.avaliacao_id = a.id
+            WHERE m.aluno_id = ?
+            ORDER BY t.periodo DESC, d.nome, m.id, a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Linha> buscarLinhas(Long alunoId) {
+        return jdbcTemplate.query(BOLETIM, (rs, i) -> {
+            Timestamp data = rs.getTimestamp("data");
+            return new Linha(
+                    rs.getLong("matricula_id"),
+                    rs.getString("situacao"),
+                    rs.getLong("turma_id"),
+                    rs.getString("periodo"),
+                    rs.getLong("disciplina_id"),
+                    rs.getString("disciplina"),
+                    rs.getLong("curso_id"),
+                    rs.getString("curso"),
+                    rs.getObject("avaliacao_id", Long.class),
+                    rs.getString("titulo"),
+                    rs.getString("tipo"),
+                    rs.getObject("peso", Double.class),
+                    rs.getObject("valor", Double.class),
+                    data != null ? data.toLocalDateTime() : null);
+        }, alunoId);
+    }
+}
@@ -1,13 +1,27 @@
 package com.faculdade.sgca.infrastructure.repository;
 
 import com.faculdade.sgca.domain.model.Curso;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface CursoRepository extends JpaRepository<Curso, Long> {
+    // Busca pela chave natural no cache de consultas (a entidade vem do cache de segundo nível)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "curso-por-codigo")
+    })
     Optional<Curso> findByCodigo(String codigo);
     boolean existsByCodigo(String codigo);
+
+    List<Curso> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
 }
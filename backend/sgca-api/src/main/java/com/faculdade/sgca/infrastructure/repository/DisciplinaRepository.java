@@ -1,15 +1,28 @@
 package com.faculdade.sgca.infrastructure.repository;
 
 import com.faculdade.sgca.domain.model.Disciplina;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface DisciplinaRepository extends JpaRepository<Disciplina, Long> {
+    // Chave natural em cache (ver CursoRepository.findByCodigo)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "disciplina-por-codigo")
+    })
     Optional<Disciplina> findByCodigo(String codigo);
     boolean existsByCodigo(String codigo);
     List<Disciplina> findByCurso_Id(Long cursoId);
+
+    List<Disciplina> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
 }
@@ -0,0 +1,108 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Escritas nos contadores de frequência. Os ajustes são incrementos
+ * relativos num único UPSERT, então escritas concorrentes de presença na
+ * mesma matrícula se somam sem leitura prévia do contador.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FrequenciaJdbcRepository {
+
+    public record Ajuste(Long matriculaId, int aulas, int presencas) {
+    }
+
+    private static final String AJUSTAR = """
+            INSERT INTO frequencia_matricula (matricula_id, turma_id, aulas, presencas, atualizada_em)
+            VALUES (?, ?, ?, ?, now())
+            ON CONFLICT (matricula_id) DO UPDATE
+            SET aulas = frequencia_matricula.aulas + EXCLUDED.aulas,
+                presencas = frequencia_matricula.presencas + EXCLUDED.presencas,
+                atualizada_em = now()
+            """;
+
+    private static final String TURMAS = """
+            SELECT turma_id FROM presenca
+            UNION
+            SELECT turma_id FROM frequencia_matricula
+            """;
+
+    // 1) garante uma linha por matrícula com presença (sem sobrescrever as existentes)
+    private static final String CRIAR_FALTANTES = """
+            INSERT INTO frequencia_matricula (matricula_id, turma_id, aulas, presencas, atualizada_em)
+            SELECT DISTINCT matricula_id, turma_id, 0, 0, now()
+            FROM presenca
+            WHERE turma_id = ?
+            ON CONFLICT (matricula_id) DO NOTHING
+            """;
+
+    // 2) trava os contadores da turma: escritas em andamento terminam antes da recontagem
+    private static final String TRAVAR = """
+            SELECT matricula_id FROM frequencia_matricula
+            WHERE turma_id = ?
+            ORDER BY matricula_id
+            FOR UPDATE
+            """;
+
+    // 3) recontagem num novo snapshot, que já enxerga tudo que foi confirmado até a trava
+    private static final String RECONTAR = """
+            UPDATE frequencia_matricula f
+            SET aulas = c.aulas, presencas = c.presencas, atualizada_em = now()
+            FROM (SELECT fm.matricula_id,
+                         count(p.id) AS aulas,
+                         count(p.id) FILTER (WHERE p.presente) AS presencas
+                  FROM frequencia_matricula fm
+                  LEFT JOIN presenca p ON p.matricula_id = fm.matricula_id
+                  WHERE fm.turma_id = ?
+                  GROUP BY fm.matricula_id) c
+            WHERE f.matricula_id = c.matricula_id
+              AND (f.aulas <> c.aulas OR f.presencas <> c.presencas)
+            """;
+
+    // 4) contadores de matrículas que não têm mais nenhuma presença
+    private static final String REMOVER_VAZIOS = """
+            DELETE FROM frequencia_matricula
+            WHERE turma_id = ? AND aulas = 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void ajustar(Long matriculaId, Long turmaId, int aulas, int presencas) {
+        jdbcTemplate.update(AJUSTAR, matriculaId, turmaId, aulas, presencas);
+    }
+
+    /**
+     * Aplica os ajustes de uma turma num único lote JDBC. Devem vir ordenados
+     * por matrícula, pelo mesmo motivo do upsert de presenças.
+     */
+    public void ajustarLote(Long turmaId, List<Ajuste> ajustes) {
+        jdbcTemplate.batchUpdate(AJUSTAR, ajustes, ajustes.size(), (ps, a) -> {
+            ps.setLong(1, a.matriculaId());
+            ps.setLong(2, turmaId);
+            ps.setInt(3, a.aulas());
+            ps.setInt(4, a.presencas());
+        });
+    }
+
+    public List<Long> turmasComFrequencia() {
+        return jdbcTemplate.queryForList(TURMAS, Long.class);
+    }
+
+    /**
+     * Reconstrói os contadores de uma turma a partir das presenças. Precisa
+     * rodar numa transação própria; devolve quantos contadores divergiam.
+     */
+    public int reconciliarTurma(Long turmaId) {
+        jdbcTemplate.update(CRIAR_FALTANTES, turmaId);
+        jdbcTemplate.queryForList(TRAVAR, Long.class, turmaId);
+        int corrigidos = jdbcTemplate.update(RECONTAR, turmaId);
+        jdbcTemplate.update(REMOVER_VAZIOS, turmaId);
+        return corrigidos;
+    }
+}
@@ -0,0 +1,34 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.application.dto.FrequenciaDTO;
+import com.faculdade.sgca.domain.model.FrequenciaMatricula;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FrequenciaMatriculaRepository extends JpaRepository<FrequenciaMatricula, Long> {
+
+    // Matrículas da turma com os contadores (matrícula sem aula registrada sai zerada)
+    @Query("""
+            SELECT new com.faculdade.sgca.application.dto.FrequenciaDTO(
+                       m.id, m.aluno.id, m.turma.id, COALESCE(f.aulas, 0), COALESCE(f.presencas, 0))
+              FROM Matricula m
+              LEFT JOIN FrequenciaMatricula f ON f.matriculaId = m.id
+             WHERE m.turma.id = :turmaId
+             ORDER BY m.id
+            """)
+    List<FrequenciaDTO> findPorTurma(Long turmaId);
+
+    @Query("""
+            SELECT new com.faculdade.sgca.application.dto.FrequenciaDTO(
+                       m.id, m.aluno.id, m.turma.id, COALESCE(f.aulas, 0), COALESCE(f.presencas, 0))
+              FROM Matricula m
+              LEFT JOIN FrequenciaMatricula f ON f.matriculaId = m.id
+             WHERE m.aluno.id = :alunoId
+             ORDER BY m.id
+            """)
+    List<FrequenciaDTO> findPorAluno(Long alunoId);
+}
@@ -0,0 +1,60 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * INSERTs em lote das importações. As linhas chegam já validadas pelo
+ * serviço; aqui só há gravação, um lote JDBC por bloco.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImportacaoJdbcRepository {
+
+    public record AlunoNovo(String nome, String email, String cpf, LocalDate dataNascimento, String status) {
+    }
+
+    public record MatriculaNova(Long alunoId, Long turmaId, LocalDate data, String situacao) {
+    }
+
+    private static final String INSERIR_ALUNO = """
+            INSERT INTO aluno (id, versao, nome, email, cpf, data_nascimento, status)
+            VALUES (nextval('aluno_id_seq'), 0, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERIR_MATRICULA = """
+            INSERT INTO matricula (id, versao, aluno_id, turma_id, data, situacao)
+            VALUES (nextval('matricula_id_seq'), 0, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void inserirAlunos(List<AlunoNovo> alunos) {
+        jdbcTemplate.batchUpdate(INSERIR_ALUNO, alunos, alunos.size(), (ps, a) -> {
+            ps.setString(1, a.nome());
+            ps.setString(2, a.email());
+            ps.setString(3, a.cpf());
+            if (a.dataNascimento() != null) {
+                ps.setDate(4, Date.valueOf(a.dataNascimento()));
+            } else {
+                ps.setNull(4, Types.DATE);
+            }
+            ps.setString(5, a.status());
+        });
+    }
+
+    public void inserirMatriculas(List<MatriculaNova> matriculas) {
+        jdbcTemplate.batchUpdate(INSERIR_MATRICULA, matriculas, matriculas.size(), (ps, m) -> {
+            ps.setLong(1, m.alunoId());
+            ps.setLong(2, m.turmaId());
+            ps.setDate(3, Date.valueOf(m.data()));
+            ps.setString(4, m.situacao());
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.domain.model.ImportacaoJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface ImportacaoJobRepository extends JpaRepository<ImportacaoJob, Long> {
+
+    /**
+     * Registra um bloco confirmado. Roda dentro da transação do bloco, junto com os INSERTs.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ImportacaoJob j
+               SET j.linhasLidas = :linhasLidas,
+                   j.importadas = j.importadas + :importadas,
+                   j.rejeitadas = j.rejeitadas + :rejeitadas,
+                   j.blocosConfirmados = j.blocosConfirmados + 1,
+                   j.atualizadaEm = :agora
+             WHERE j.id = :id
+            """)
+    int registrarBloco(Long id, long linhasLidas, long importadas, long rejeitadas, Instant agora);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE ImportacaoJob j
+               SET j.status = :status, j.erro = :erro, j.concluidaEm = :concluidaEm, j.atualizadaEm = :agora
+             WHERE j.id = :id
+            """)
+    int atualizarStatus(Long id, String status, String erro, Instant concluidaEm, Instant agora);
+}
@@ -0,0 +1,89 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Promoção da lista de espera. Quem chama já reservou as vagas na linha da
+ * turma ({@link VagaJdbcRepository#reservar}); a turma é sempre travada antes
+ * da fila, na mesma ordem da criação de matrícula, para as duas não se
+ * cruzarem num deadlock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ListaEsperaJdbcRepository {
+
+    /** Entradas tiradas da fila e, delas, quantas viraram matrícula. */
+    public record Promocao(int removidas, int matriculadas) {
+    }
+
+    // um comando só: trava os primeiros da fila, tira da fila e matricula.
+    // SKIP LOCKED pula a entrada que o próprio aluno está removendo; quem já
+    // tem matrícula na turma sai da fila sem virar matrícula (ON CONFLICT),
+    // por isso o comando devolve as duas contagens
+    private static final String PROMOVER = """
+            WITH proximos AS (
+                SELECT id FROM lista_espera
+                WHERE turma_id = ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), removidos AS (
+                DELETE FROM lista_espera e USING proximos p
+                WHERE e.id = p.id
+                RETURNING e.aluno_id, e.turma_id
+            ), matriculados AS (
+                INSERT INTO matricula (id, versao, aluno_id, turma_id, data, situacao)
+                SELECT nextval('matricula_id_seq'), 0, r.aluno_id, r.turma_id, current_date, 'ATIVA'
+                FROM removidos r
+                ON CONFLICT (aluno_id, turma_id) DO NOTHING
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM removidos) AS removidas,
+                   (SELECT count(*) FROM matriculados) AS matriculadas
+            """;
+
+    private static final String REMOVER_SE_LIVRE = """
+            DELETE FROM lista_espera
+            WHERE id IN (SELECT id FROM lista_espera
+                         WHERE aluno_id = ? AND turma_id = ?
+                         FOR UPDATE SKIP LOCKED)
+            """;
+
+    // turmas com fila e com vaga (ou sem limite): o que a varredura precisa promover
+    private static final String TURMAS_COM_VAGA = """
+            SELECT DISTINCT e.turma_id
+            FROM lista_espera e
+            JOIN turma t ON t.id = e.turma_id
+            WHERE t.vagas_disponiveis IS NULL OR t.vagas_disponiveis > 0
+            ORDER BY e.turma_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Promove até {@code limite} entradas, da mais antiga para a mais nova.
+     *
+     * @return quantas saíram da fila e quantas delas viraram matrícula
+     */
+    public Promocao promover(Long turmaId, int limite) {
+        return jdbcTemplate.queryForObject(PROMOVER,
+                (rs, i) -> new Promocao(rs.getInt("removidas"), rs.getInt("matriculadas")),
+                turmaId, limite);
+    }
+
+    /**
+     * Tira o aluno da fila da turma, se ele estiver lá e a entrada não estiver
+     * sendo promovida agora.
+     */
+    public void removerSeLivre(Long alunoId, Long turmaId) {
+        jdbcTemplate.update(REMOVER_SE_LIVRE, alunoId, turmaId);
+    }
+
+    public List<Long> turmasComVaga() {
+        return jdbcTemplate.queryForList(TURMAS_COM_VAGA, Long.class);
+    }
+}
@@ -0,0 +1,20 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.domain.model.ListaEspera;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ListaEsperaRepository extends JpaRepository<ListaEspera, Long> {
+    Optional<ListaEspera> findByAlunoIdAndTurmaId(Long alunoId, Long turmaId);
+    List<ListaEspera> findByTurmaIdOrderByIdAsc(Long turmaId);
+    List<ListaEspera> findByAlunoIdOrderByIdAsc(Long alunoId);
+
+    // Quantos estão na frente na mesma fila: varredura só do índice (turma_id, id)
+    @Query("SELECT count(e) FROM ListaEspera e WHERE e.turmaId = :turmaId AND e.id < :id")
+    long contarAFrente(Long turmaId, Long id);
+}
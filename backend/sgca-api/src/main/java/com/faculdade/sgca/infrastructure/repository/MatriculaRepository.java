@@ -1,11 +1,20 @@
 package com.faculdade.sgca.infrastructure.repository;
 
+import com.faculdade.sgca.application.dto.MatriculaDTO;
 import com.faculdade.sgca.domain.model.Matricula;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface MatriculaRepository extends JpaRepository<Matricula, Long> {
@@ -13,4 +22,42 @@ public interface MatriculaRepository extends JpaRepository<Matricula, Long> {
     List<Matricula> findByAluno_Id(Long alunoId);
     List<Matricula> findByTurma_Id(Long turmaId);
     boolean existsByAluno_IdAndTurma_Id(Long alunoId, Long turmaId);
+
+    List<Matricula> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
+
+    // Exportação em streaming: ver NotaRepository.streamParaExportacao
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.faculdade.sgca.application.dto.MatriculaDTO(
+                       m.id, m.aluno.id, m.turma.id, m.data, m.situacao, m.versao)
+              FROM Matricula m
+              JOIN m.turma t
+             WHERE (:turmaId IS NULL OR t.id = :turmaId)
+               AND (:periodo IS NULL OR t.periodo = :periodo)
+             ORDER BY m.id
+            """)
+    Stream<MatriculaDTO> streamParaExportacao(Long turmaId, String periodo);
+
+    // Quais dos ids informados são matrículas da turma (validação de lote em uma consulta)
+    @Query("SELECT m.id FROM Matricula m WHERE m.turma.id = :turmaId AND m.id IN :ids")
+    List<Long> findIdsDaTurma(Long turmaId, Collection<Long> ids);
+
+    // Pares (aluno, turma) já matriculados entre os informados; cada linha: [alunoId, turmaId]
+    @Query("SELECT m.aluno.id, m.turma.id FROM Matricula m WHERE m.aluno.id IN :alunoIds AND m.turma.id IN :turmaIds")
+    List<Object[]> findParesExistentes(Collection<Long> alunoIds, Collection<Long> turmaIds);
+
+    // Turmas em que o aluno está matriculado, opcionalmente só de um período
+    @Query("SELECT m.turma.id FROM Matricula m WHERE m.aluno.id = :alunoId AND (:periodo IS NULL OR m.turma.periodo = :periodo)")
+    List<Long> findTurmasDoAluno(Long alunoId, String periodo);
+
+    // Matrículas ATIVA por período da turma; cada linha: [periodo, total]
+    @Query("""
+            SELECT t.periodo, count(m)
+              FROM Matricula m
+              JOIN m.turma t
+             WHERE m.situacao = 'ATIVA'
+             GROUP BY t.periodo
+             ORDER BY t.periodo
+            """)
+    List<Object[]> contarAtivasPorPeriodo();
 }
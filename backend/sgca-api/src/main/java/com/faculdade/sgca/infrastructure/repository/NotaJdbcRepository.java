@@ -0,0 +1,40 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.application.dto.NotaLoteDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lançamento de notas em lote via JDBC, com upsert na restrição única
+ * (avaliacao_id, matricula_id): lançar de novo corrige a nota existente.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotaJdbcRepository {
+
+    // nota que troca de valor ganha versão nova (invalida o ETag); a que repete o valor fica intacta
+    private static final String UPSERT = """
+            INSERT INTO nota (id, versao, avaliacao_id, matricula_id, valor, data)
+            VALUES (nextval('nota_id_seq'), 0, ?, ?, ?, ?)
+            ON CONFLICT (avaliacao_id, matricula_id)
+            DO UPDATE SET valor = EXCLUDED.valor, versao = nota.versao + 1
+            WHERE nota.valor IS DISTINCT FROM EXCLUDED.valor
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertLote(Long avaliacaoId, List<NotaLoteDTO.Linha> linhas) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT, linhas, linhas.size(), (ps, linha) -> {
+            ps.setLong(1, avaliacaoId);
+            ps.setLong(2, linha.getMatriculaId());
+            ps.setDouble(3, linha.getValor());
+            ps.setTimestamp(4, agora);
+        });
+    }
+}
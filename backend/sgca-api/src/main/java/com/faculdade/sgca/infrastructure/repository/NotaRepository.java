@@ -1,11 +1,20 @@
 package com.faculdade.sgca.infrastructure.repository;
 
+import com.faculdade.sgca.application.dto.NotaDTO;
 import com.faculdade.sgca.domain.model.Nota;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface NotaRepository extends JpaRepository<Nota, Long> {
@@ -13,4 +22,27 @@ public interface NotaRepository extends JpaRepository<Nota, Long> {
     List<Nota> findByMatricula_Id(Long matriculaId);
     List<Nota> findByAvaliacao_TurmaId(Long turmaId);
     boolean existsByAvaliacao_IdAndMatricula_Id(Long avaliacaoId, Long matriculaId);
+
+    List<Nota> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
+
+    /**
+     * Notas para exportação, projetadas direto no DTO (sem entidades no contexto de persistência)
+     * e lidas do cursor JDBC em lotes. Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.faculdade.sgca.application.dto.NotaDTO(
+                       n.id, n.avaliacao.id, n.matricula.id, n.valor, n.data, n.versao)
+              FROM Nota n
+              JOIN n.matricula m
+              JOIN m.turma t
+             WHERE (:turmaId IS NULL OR t.id = :turmaId)
+               AND (:periodo IS NULL OR t.periodo = :periodo)
+             ORDER BY n.id
+            """)
+    Stream<NotaDTO> streamParaExportacao(Long turmaId, String periodo);
+
+    // Matrículas que já têm nota na avaliação (distingue criação de correção no lote)
+    @Query("SELECT n.matricula.id FROM Nota n WHERE n.avaliacao.id = :avaliacaoId AND n.matricula.id IN :matriculaIds")
+    List<Long> findMatriculasComNota(Long avaliacaoId, Collection<Long> matriculaIds);
 }
@@ -0,0 +1,49 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Matriz matrícula × avaliação de uma turma com as notas lançadas, numa
+ * única consulta. O FULL JOIN pela turma faz o produto das matrículas com as
+ * avaliações e ainda devolve as avaliações de uma turma sem alunos (e os
+ * alunos de uma turma sem avaliações), com o lado ausente nulo.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PautaJdbcRepository {
+
+    public record Celula(Long matriculaId, Long alunoId, String alunoNome, String situacao,
+                         Long avaliacaoId, String titulo, String tipo, Double peso, Double valor) {
+    }
+
+    private static final String PAUTA = """
+            SELECT m.id AS matricula_id, m.aluno_id, al.nome AS aluno_nome, m.situacao,
+                   a.id AS avaliacao_id, a.titulo, a.tipo, a.peso, n.valor
+            FROM (SELECT id, aluno_id, turma_id, situacao FROM matricula WHERE turma_id = ?) m
+            JOIN aluno al ON al.id = m.aluno_id
+            FULL JOIN (SELECT id, titulo, tipo, peso, turma_id FROM avaliacao WHERE turma_id = ?) a
+                   ON a.turma_id = m.turma_id
+            LEFT JOIN nota n ON n.matricula_id = m.id AND n.avaliacao_id = a.id
+            ORDER BY al.nome, m.id, a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Celula> buscarCelulas(Long turmaId) {
+        return jdbcTemplate.query(PAUTA, (rs, i) -> new Celula(
+                rs.getObject("matricula_id", Long.class),
+                rs.getObject("aluno_id", Long.class),
+                rs.getString("aluno_nome"),
+                rs.getString("situacao"),
+                rs.getObject("avaliacao_id", Long.class),
+                rs.getString("titulo"),
+                rs.getString("tipo"),
+                rs.getObject("peso", Double.class),
+                rs.getObject("valor", Double.class)
+        ), turmaId, turmaId);
+    }
+}
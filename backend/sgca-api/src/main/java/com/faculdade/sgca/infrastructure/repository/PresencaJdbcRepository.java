@@ -0,0 +1,60 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escritas em lote de presença via JDBC. O lote inteiro vai num único
+ * INSERT … SELECT sobre arrays, em vez de um comando por aluno.
+ * O id sai explicitamente da mesma sequência usada pelo Hibernate (pooled):
+ * cada nextval consumido aqui é um bloco que o Hibernate nunca vai usar.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PresencaJdbcRepository {
+
+    /**
+     * Resultado do upsert para uma matrícula: {@code inserida} distingue a
+     * criação da troca de valor. Linhas que já tinham o mesmo valor não voltam.
+     */
+    public record Gravacao(Long matriculaId, boolean presente, boolean inserida) {
+    }
+
+    // xmax = 0 só na linha recém-inserida; o WHERE evita reescrever (e devolver) quem não mudou
+    private static final String UPSERT = """
+            INSERT INTO presenca (id, versao, turma_id, matricula_id, data_aula, presente)
+            SELECT nextval('presenca_id_seq'), 0, ?, l.matricula_id, ?, l.presente
+            FROM unnest(?::bigint[], ?::boolean[]) AS l(matricula_id, presente)
+            ON CONFLICT (turma_id, matricula_id, data_aula)
+            DO UPDATE SET presente = EXCLUDED.presente, versao = presenca.versao + 1
+            WHERE presenca.presente IS DISTINCT FROM EXCLUDED.presente
+            RETURNING matricula_id, presente, (xmax = 0) AS inserida
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Grava (ou sobrescreve) a presença de cada matrícula na data num único
+     * comando, com as linhas passadas como arrays. As linhas devem vir
+     * ordenadas por matrícula para que lotes concorrentes travem na mesma ordem.
+     */
+    public List<Gravacao> upsertLote(Long turmaId, LocalDate dataAula, List<Map.Entry<Long, Boolean>> linhas) {
+        Long[] matriculas = linhas.stream().map(Map.Entry::getKey).toArray(Long[]::new);
+        Boolean[] presentes = linhas.stream().map(Map.Entry::getValue).toArray(Boolean[]::new);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(UPSERT);
+            ps.setLong(1, turmaId);
+            ps.setDate(2, Date.valueOf(dataAula));
+            ps.setArray(3, con.createArrayOf("bigint", matriculas));
+            ps.setArray(4, con.createArrayOf("boolean", presentes));
+            return ps;
+        }, (rs, i) -> new Gravacao(rs.getLong("matricula_id"), rs.getBoolean("presente"), rs.getBoolean("inserida")));
+    }
+}
@@ -1,12 +1,22 @@
 package com.faculdade.sgca.infrastructure.repository;
 
+import com.faculdade.sgca.application.dto.PresencaDTO;
 import com.faculdade.sgca.domain.model.Presenca;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface PresencaRepository extends JpaRepository<Presenca, Long> {
@@ -14,4 +24,24 @@ public interface PresencaRepository extends JpaRepository<Presenca, Long> {
     List<Presenca> findByTurma_Id(Long turmaId);
     List<Presenca> findByMatricula_Id(Long matriculaId);
     boolean existsByTurma_IdAndMatricula_IdAndDataAula(Long turmaId, Long matriculaId, LocalDate dataAula);
+
+    List<Presenca> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
+
+    // Exportação em streaming: ver NotaRepository.streamParaExportacao
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.faculdade.sgca.application.dto.PresencaDTO(
+                       p.id, p.turma.id, p.matricula.id, p.dataAula, p.presente, p.versao)
+              FROM Presenca p
+              JOIN p.turma t
+             WHERE (:turmaId IS NULL OR t.id = :turmaId)
+               AND (:periodo IS NULL OR t.periodo = :periodo)
+             ORDER BY p.id
+            """)
+    Stream<PresencaDTO> streamParaExportacao(Long turmaId, String periodo);
+
+    // Linha travada para atualizar/excluir: o ajuste da frequência depende do valor anterior
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Presenca p WHERE p.id = :id")
+    Optional<Presenca> findParaAlterar(Long id);
 }
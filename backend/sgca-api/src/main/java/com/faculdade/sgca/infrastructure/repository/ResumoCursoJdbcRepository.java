@@ -0,0 +1,116 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.domain.avaliacao.impl.Participacao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Agregados de um curso (alunos ativos, turmas, média final e frequência
+ * média) calculados no banco, numa consulta só, em vez de percorrer
+ * curso → disciplinas → turmas → matrículas pelas entidades. A média final
+ * de cada matrícula segue as mesmas regras de {@code TipoAvaliacao}; a
+ * frequência vem dos contadores por matrícula.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResumoCursoJdbcRepository {
+
+    public record Resumo(String curso, String periodo, long turmas, long alunosAtivos,
+                         Double mediaFinal, Double frequenciaMedia) {
+    }
+
+    private static final String CTES = """
+            WITH turmas AS (
+                SELECT t.id, t.periodo
+                FROM turma t
+                JOIN disciplina d ON d.id = t.disciplina_id
+                WHERE d.curso_id = :cursoId
+                  AND (CAST(:periodo AS VARCHAR) IS NULL OR t.periodo = :periodo)
+            ),
+            finais AS (
+                SELECT m.id, m.turma_id, m.aluno_id, m.situacao, fm.aulas, fm.presencas,
+                       sum(CASE WHEN upper(trim(a.tipo)) = 'PARTICIPACAO'
+                                THEN least(n.valor, :notaMaximaParticipacao)
+                                ELSE n.valor END * a.peso / 100) AS nota_final
+                FROM matricula m
+                JOIN turmas tu ON tu.id = m.turma_id
+                LEFT JOIN frequencia_matricula fm ON fm.matricula_id = m.id
+                LEFT JOIN nota n ON n.matricula_id = m.id
+                LEFT JOIN avaliacao a ON a.id = n.avaliacao_id
+                GROUP BY m.id, m.turma_id, m.aluno_id, m.situacao, fm.aulas, fm.presencas
+            )
+            """;
+
+    // matrícula sem nota não entra na média final; sem aula registrada, não entra na frequência
+    private static final String RESUMO = CTES + """
+            SELECT c.nome AS curso,
+                   CAST(:periodo AS VARCHAR) AS periodo,
+                   (SELECT count(*) FROM turmas) AS turmas,
+                   (SELECT count(DISTINCT aluno_id) FROM finais WHERE situacao = 'ATIVA') AS alunos_ativos,
+                   (SELECT avg(nota_final) FROM finais) AS media_final,
+                   (SELECT avg(presencas * 100.0 / aulas) FROM finais WHERE aulas > 0) AS frequencia_media
+            FROM curso c
+            WHERE c.id = :cursoId
+            """;
+
+    private static final String POR_PERIODO = CTES + """
+            SELECT NULL AS curso,
+                   tu.periodo,
+                   count(DISTINCT tu.id) AS turmas,
+                   count(DISTINCT f.aluno_id) FILTER (WHERE f.situacao = 'ATIVA') AS alunos_ativos,
+                   avg(f.nota_final) AS media_final,
+                   avg(f.presencas * 100.0 / f.aulas) FILTER (WHERE f.aulas > 0) AS frequencia_media
+            FROM turmas tu
+            LEFT JOIN finais f ON f.turma_id = tu.id
+            GROUP BY tu.periodo
+            ORDER BY tu.periodo
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Resumo do curso inteiro ou de um período; vazio se o curso não existe.
+     */
+    public Optional<Resumo> resumir(Long cursoId, String periodo) {
+        return jdbcTemplate.query(RESUMO, parametros(cursoId, periodo), ResumoCursoJdbcRepository::mapear)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Um resumo por período em que o curso teve turmas.
+     */
+    public List<Resumo> resumirPorPeriodo(Long cursoId) {
+        return jdbcTemplate.query(POR_PERIODO, parametros(cursoId, null), ResumoCursoJdbcRepository::mapear);
+    }
+
+    private static MapSqlParameterSource parametros(Long cursoId, String periodo) {
+        return new MapSqlParameterSource()
+                .addValue("cursoId", cursoId)
+                .addValue("periodo", periodo)
+                .addValue("notaMaximaParticipacao", Participacao.NOTA_MAXIMA);
+    }
+
+    private static Resumo mapear(ResultSet rs, int linha) throws SQLException {
+        return new Resumo(
+                rs.getString("curso"),
+                rs.getString("periodo"),
+                rs.getLong("turmas"),
+                rs.getLong("alunos_ativos"),
+                decimal(rs, "media_final"),
+                decimal(rs, "frequencia_media")
+        );
+    }
+
+    private static Double decimal(ResultSet rs, String coluna) throws SQLException {
+        double valor = rs.getDouble(coluna);
+        return rs.wasNull() ? null : Math.round(valor * 100) / 100.0;
+    }
+}
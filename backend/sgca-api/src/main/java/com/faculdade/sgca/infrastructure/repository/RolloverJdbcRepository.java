@@ -0,0 +1,164 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Cópia em conjunto das turmas e avaliações de um período para outro.
+ * <p>
+ * Cada turma nova nasce de uma turma de origem e recebe só as avaliações
+ * dela: o par origem→nova sai do próprio INSERT (CTE com o id novo já
+ * sorteado), nunca de um JOIN pela disciplina. Uma disciplina que já tem
+ * turma no destino é pulada, o que torna a cópia idempotente: rodar de novo
+ * só completa o que faltou.
+ * <p>
+ * Turma do destino que já existia sem avaliações recebe as da origem apenas
+ * quando o par é inequívoco (uma turma da disciplina em cada período). Com
+ * mais de uma, não há como saber qual origem corresponde a qual destino; a
+ * disciplina é contada como ambígua e fica como está.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RolloverJdbcRepository {
+
+    /**
+     * Resultado da cópia: turmas criadas e avaliações copiadas (para as
+     * turmas novas e para as que já existiam no destino).
+     */
+    public record Copia(int turmas, int avaliacoes) {
+    }
+
+    private static final String TURMA_SEM_DESTINO = """
+            NOT EXISTS (SELECT 1 FROM turma d
+                        WHERE d.disciplina_id = o.disciplina_id AND d.periodo = :destino)
+            """;
+
+    private static final String UMA_TURMA_NA_ORIGEM = """
+            (SELECT count(*) FROM turma x
+             WHERE x.disciplina_id = o.disciplina_id AND x.periodo = :origem) = 1
+            """;
+
+    private static final String UMA_TURMA_NO_DESTINO = """
+            (SELECT count(*) FROM turma x
+             WHERE x.disciplina_id = o.disciplina_id AND x.periodo = :destino) = 1
+            """;
+
+    private static final String CONTAR_TURMAS_ORIGEM = """
+            SELECT count(*) FROM turma o WHERE o.periodo = :origem
+            """;
+
+    private static final String CONTAR_TURMAS_NOVAS =
+            "SELECT count(*) FROM turma o WHERE o.periodo = :origem AND " + TURMA_SEM_DESTINO;
+
+    // disciplinas com turma no destino e sem par único entre os períodos
+    private static final String CONTAR_AMBIGUAS = """
+            SELECT count(DISTINCT o.disciplina_id) FROM turma o
+            WHERE o.periodo = :origem
+              AND EXISTS (SELECT 1 FROM turma d
+                          WHERE d.disciplina_id = o.disciplina_id AND d.periodo = :destino)
+              AND NOT (
+            """ + UMA_TURMA_NA_ORIGEM + " AND " + UMA_TURMA_NO_DESTINO + ")";
+
+    // avaliações das turmas que serão criadas
+    private static final String CONTAR_AVALIACOES_TURMAS_NOVAS = """
+            SELECT count(*)
+            FROM avaliacao a
+            JOIN turma o ON o.id = a.turma_id
+            WHERE o.periodo = :origem AND
+            """ + TURMA_SEM_DESTINO;
+
+    // turmas do destino que já existiam: par único, destino ainda sem avaliação.
+    // Com o par único o JOIN pela disciplina devolve uma turma d por turma o.
+    private static final String COMPLETAVEIS = """
+            FROM avaliacao a
+            JOIN turma o ON o.id = a.turma_id
+            JOIN turma d ON d.disciplina_id = o.disciplina_id AND d.periodo = :destino
+            WHERE o.periodo = :origem
+              AND NOT EXISTS (SELECT 1 FROM avaliacao x WHERE x.turma_id = d.id)
+              AND
+            """ + UMA_TURMA_NA_ORIGEM + " AND " + UMA_TURMA_NO_DESTINO;
+
+    private static final String CONTAR_AVALIACOES_COMPLETADAS = "SELECT count(*) " + COMPLETAVEIS;
+
+    private static final String COMPLETAR_AVALIACOES = """
+            INSERT INTO avaliacao (id, versao, titulo, peso, tipo, turma_id)
+            SELECT nextval('avaliacao_id_seq'), 0, a.titulo, a.peso, a.tipo, d.id
+            """ + COMPLETAVEIS;
+
+    // 'pares' fixa o id novo de cada turma de origem (MATERIALIZED: um nextval por linha);
+    // as avaliações vão para pares.novo_id pelo id da origem
+    private static final String COPIAR_TURMAS_E_AVALIACOES = """
+            WITH pares AS MATERIALIZED (
+                SELECT o.id AS origem_id, nextval('turma_id_seq') AS novo_id,
+                       o.disciplina_id, o.professor_id, o.capacidade
+                FROM turma o
+                WHERE o.periodo = :origem AND
+            """ + TURMA_SEM_DESTINO + """
+            ), turmas AS (
+                INSERT INTO turma (id, versao, disciplina_id, periodo, professor_id, capacidade, vagas_disponiveis)
+                SELECT p.novo_id, 0, p.disciplina_id, :destino,
+                       CASE WHEN :manterProfessor THEN p.professor_id END, p.capacidade, p.capacidade
+                FROM pares p
+                RETURNING id
+            ), avaliacoes AS (
+                INSERT INTO avaliacao (id, versao, titulo, peso, tipo, turma_id)
+                SELECT nextval('avaliacao_id_seq'), 0, a.titulo, a.peso, a.tipo, p.novo_id
+                FROM avaliacao a
+                JOIN pares p ON p.origem_id = a.turma_id
+                RETURNING id
+            )
+            SELECT (SELECT count(*) FROM turmas) AS turmas,
+                   (SELECT count(*) FROM avaliacoes) AS avaliacoes
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // ============================================================
+    // 🔹 PRÉVIA (SIMULAÇÃO)
+    // ============================================================
+    public long contarTurmasOrigem(String origem) {
+        return contar(CONTAR_TURMAS_ORIGEM, origem, null);
+    }
+
+    public long contarTurmasNovas(String origem, String destino) {
+        return contar(CONTAR_TURMAS_NOVAS, origem, destino);
+    }
+
+    public long contarAvaliacoesNovas(String origem, String destino) {
+        return contar(CONTAR_AVALIACOES_TURMAS_NOVAS, origem, destino)
+                + contar(CONTAR_AVALIACOES_COMPLETADAS, origem, destino);
+    }
+
+    public long contarDisciplinasAmbiguas(String origem, String destino) {
+        return contar(CONTAR_AMBIGUAS, origem, destino);
+    }
+
+    // ============================================================
+    // 🔹 CÓPIA
+    // ============================================================
+
+    /**
+     * Completa as turmas do destino que já existiam e depois cria as que
+     * faltam, cada uma com as avaliações da sua turma de origem.
+     */
+    public Copia copiar(String origem, String destino, boolean manterProfessor) {
+        int completadas = jdbcTemplate.update(COMPLETAR_AVALIACOES, parametros(origem, destino));
+        Copia novas = jdbcTemplate.queryForObject(COPIAR_TURMAS_E_AVALIACOES,
+                parametros(origem, destino).addValue("manterProfessor", manterProfessor),
+                (rs, i) -> new Copia(rs.getInt("turmas"), rs.getInt("avaliacoes")));
+        return new Copia(novas.turmas(), novas.avaliacoes() + completadas);
+    }
+
+    private long contar(String sql, String origem, String destino) {
+        Long total = jdbcTemplate.queryForObject(sql, parametros(origem, destino), Long.class);
+        return total != null ? total : 0;
+    }
+
+    private static MapSqlParameterSource parametros(String origem, String destino) {
+        return new MapSqlParameterSource()
+                .addValue("origem", origem)
+                .addValue("destino", destino);
+    }
+}
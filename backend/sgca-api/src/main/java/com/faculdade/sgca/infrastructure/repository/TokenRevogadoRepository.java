@@ -0,0 +1,30 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.domain.model.TokenRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, String> {
+
+    /**
+     * Revogações ainda válidas, usadas para montar a lista em memória na inicialização.
+     */
+    List<TokenRevogado> findByExpiraEmAfter(Instant agora);
+
+    /**
+     * Revogações feitas por qualquer nó desde a última sincronização.
+     */
+    List<TokenRevogado> findByRevogadoEmAfterAndExpiraEmAfter(Instant desde, Instant agora);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevogado t WHERE t.expiraEm <= :agora")
+    int excluirExpirados(Instant agora);
+}
@@ -1,9 +1,12 @@
 package com.faculdade.sgca.infrastructure.repository;
 
 import com.faculdade.sgca.domain.model.Turma;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +15,18 @@ public interface TurmaRepository extends JpaRepository<Turma, Long> {
     List<Turma> findByDisciplina_Id(Long disciplinaId);
     List<Turma> findByProfessor_Id(Long professorId);
     boolean existsByDisciplina_IdAndPeriodo(Long disciplinaId, String periodo);
+
+    List<Turma> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
+
+    @Query("SELECT t.id FROM Turma t WHERE t.id IN :ids")
+    List<Long> findIdsExistentes(Collection<Long> ids);
+
+    // Turmas das disciplinas de um curso, opcionalmente só de um período
+    @Query("""
+            SELECT t.id FROM Turma t
+             WHERE t.disciplina.curso.id = :cursoId
+               AND (:periodo IS NULL OR t.periodo = :periodo)
+             ORDER BY t.id
+            """)
+    List<Long> findIdsDoCurso(Long cursoId, String periodo);
 }
@@ -1,13 +1,43 @@
 package com.faculdade.sgca.infrastructure.repository;
 
 import com.faculdade.sgca.domain.model.Usuario;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+    // Usado no login: qualquer escrita em usuario (inclusive atualizarHashSenha) invalida a região
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "usuario-por-email")
+    })
     Optional<Usuario> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    /**
+     * Troca o hash da senha só se ele ainda for o mesmo que foi conferido,
+     * para não sobrescrever uma troca de senha feita nesse meio-tempo.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Usuario u SET u.senha = :novoHash WHERE u.id = :id AND u.senha = :hashAtual")
+    int atualizarHashSenha(Long id, String hashAtual, String novoHash);
+
+    List<Usuario> findByIdGreaterThanOrderByIdAsc(Long ultimoId, Limit limit);
+
+    // Usuários por perfil; cada linha: [perfil, total]
+    @Query("SELECT u.perfil, count(u) FROM Usuario u GROUP BY u.perfil")
+    List<Object[]> contarPorPerfil();
 }
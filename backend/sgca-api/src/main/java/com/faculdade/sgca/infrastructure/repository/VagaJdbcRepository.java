@@ -0,0 +1,101 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Contador de vagas da turma ({@code turma.vagas_disponiveis}). Cada escrita
+ * é um único UPDATE condicional na linha da turma: matrículas simultâneas
+ * disputam só essa linha, e a que chega com o contador em zero não altera
+ * nada. Turma sem capacidade tem contador nulo e não é travada.
+ * <p>
+ * As escritas passam por fora do Hibernate de propósito: o contador não faz
+ * parte do estado versionado nem do cache de segundo nível da turma.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VagaJdbcRepository {
+
+    private static final String OCUPAR = """
+            UPDATE turma SET vagas_disponiveis = vagas_disponiveis - 1
+            WHERE id = ? AND vagas_disponiveis > 0
+            """;
+
+    private static final String DEVOLVER = """
+            UPDATE turma SET vagas_disponiveis = vagas_disponiveis + ?
+            WHERE id = ? AND vagas_disponiveis IS NOT NULL
+            """;
+
+    // ocupa até 'quantidade' vagas e devolve o contador anterior (nulo = sem limite);
+    // o FOR UPDATE faz o CTE ler a versão atual da linha, não a do snapshot
+    private static final String RESERVAR = """
+            WITH antes AS (SELECT id, vagas_disponiveis FROM turma WHERE id = ? FOR UPDATE)
+            UPDATE turma t
+            SET vagas_disponiveis = t.vagas_disponiveis - LEAST(?, GREATEST(a.vagas_disponiveis, 0))
+            FROM antes a
+            WHERE t.id = a.id
+            RETURNING a.vagas_disponiveis
+            """;
+
+    private static final String OCUPADAS = """
+            (SELECT count(*) FROM matricula m WHERE m.turma_id = t.id AND m.situacao = 'ATIVA')
+            """;
+
+    private static final String DIVERGENTES = """
+            SELECT t.id FROM turma t
+            WHERE t.vagas_disponiveis IS DISTINCT FROM t.capacidade - """ + OCUPADAS + """
+            ORDER BY t.id
+            """;
+
+    // 1) trava a turma: matrículas em andamento terminam antes da recontagem
+    private static final String TRAVAR = "SELECT id FROM turma WHERE id = ? FOR UPDATE";
+
+    // 2) recontagem num novo snapshot, que já enxerga o que foi confirmado até a trava
+    private static final String RECONTAR = """
+            UPDATE turma t SET vagas_disponiveis = t.capacidade - """ + OCUPADAS + """
+            WHERE t.id = ? AND t.vagas_disponiveis IS DISTINCT FROM t.capacidade - """ + OCUPADAS;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return false quando a turma não tem vaga (ou não tem contador)
+     */
+    public boolean ocupar(Long turmaId) {
+        return jdbcTemplate.update(OCUPAR, turmaId) == 1;
+    }
+
+    public void devolver(Long turmaId, int quantidade) {
+        jdbcTemplate.update(DEVOLVER, quantidade, turmaId);
+    }
+
+    /**
+     * @return quantas das vagas pedidas foram ocupadas (todas, se a turma não tem limite)
+     */
+    public int reservar(Long turmaId, int quantidade) {
+        List<Integer> antes = jdbcTemplate.query(RESERVAR,
+                (rs, i) -> (Integer) rs.getObject(1), turmaId, quantidade);
+        if (antes.isEmpty()) {
+            return 0;
+        }
+        Integer vagas = antes.get(0);
+        return vagas == null ? quantidade : Math.min(quantidade, Math.max(vagas, 0));
+    }
+
+    public List<Long> turmasDivergentes() {
+        return jdbcTemplate.queryForList(DIVERGENTES, Long.class);
+    }
+
+    /**
+     * Recalcula o contador a partir da capacidade e das matrículas ATIVAS.
+     * Precisa de transação: a trava vale até o commit.
+     *
+     * @return true se o contador estava errado
+     */
+    public boolean recontar(Long turmaId) {
+        jdbcTemplate.queryForList(TRAVAR, Long.class, turmaId);
+        return jdbcTemplate.update(RECONTAR, turmaId) == 1;
+    }
+}
@@ -0,0 +1,76 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.function.IntFunction;
+
+/**
+ * Mede o custo do hash no hardware atual e escolhe o fator de trabalho
+ * que mais se aproxima da latência alvo por hash.
+ * <p>
+ * BCrypt dobra de custo a cada +1 de strength e PBKDF2 cresce linearmente
+ * com as iterações, então basta medir um ponto e extrapolar.
+ */
+@Slf4j
+public final class CalibradorSenha {
+
+    private static final String AMOSTRA = "calibracao-sgca";
+    private static final int MEDICOES = 3;
+
+    private CalibradorSenha() {
+    }
+
+    // ============================================================
+    // 🔹 BCRYPT: STRENGTH (LOG2 DAS RODADAS)
+    // ============================================================
+    public static int calibrarBcrypt(long alvoMs, int custoMinimo, int custoMaximo) {
+        double medidoMs = medir(BCryptPasswordEncoder::new, custoMinimo);
+        int extra = medidoMs > 0 ? (int) Math.floor(log2(alvoMs / medidoMs)) : 0;
+        int custo = Math.max(custoMinimo, Math.min(custoMaximo, custoMinimo + extra));
+
+        log.info("BCrypt calibrado: strength {} (~{} ms medidos em {}, alvo {} ms)",
+                custo, Math.round(medidoMs), custoMinimo, alvoMs);
+        return custo;
+    }
+
+    // ============================================================
+    // 🔹 PBKDF2: ITERAÇÕES
+    // ============================================================
+    public static int calibrarPbkdf2(long alvoMs, int iteracoesMinimas) {
+        double medidoMs = medir(CalibradorSenha::pbkdf2, iteracoesMinimas);
+        double fator = medidoMs > 0 ? alvoMs / medidoMs : 1.0;
+        int iteracoes = (int) Math.max(iteracoesMinimas, Math.min(Integer.MAX_VALUE, iteracoesMinimas * fator));
+
+        log.info("PBKDF2 calibrado: {} iterações (~{} ms medidos com {}, alvo {} ms)",
+                iteracoes, Math.round(medidoMs), iteracoesMinimas, alvoMs);
+        return iteracoes;
+    }
+
+    public static Pbkdf2PasswordEncoder pbkdf2(int iteracoes) {
+        return new Pbkdf2PasswordEncoder("", 16, iteracoes,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    // ============================================================
+    // 🔹 MEDIÇÃO (MENOR TEMPO DE ALGUMAS EXECUÇÕES, APÓS AQUECIMENTO)
+    // ============================================================
+    private static double medir(IntFunction<PasswordEncoder> fabrica, int fatorTrabalho) {
+        PasswordEncoder encoder = fabrica.apply(fatorTrabalho);
+        encoder.encode(AMOSTRA); // aquecimento do JIT
+
+        long melhor = Long.MAX_VALUE;
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            encoder.encode(AMOSTRA);
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        return melhor / 1_000_000.0;
+    }
+
+    private static double log2(double valor) {
+        return Math.log(valor) / Math.log(2);
+    }
+}
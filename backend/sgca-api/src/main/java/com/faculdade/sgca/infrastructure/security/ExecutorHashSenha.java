@@ -0,0 +1,147 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Executa o hash de senhas (BCrypt) fora das threads do Tomcat, num pool de
+ * tamanho fixo com fila limitada. Com a fila cheia a chamada falha na hora
+ * ({@link HashSenhaSaturadoException}) em vez de segurar a thread da requisição.
+ */
+@Component
+public class ExecutorHashSenha {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor pool;
+    private final long timeoutMs;
+    private final long retryAfterSegundos;
+
+    private final Timer tempoCodificar;
+    private final Timer tempoConferir;
+    private final Counter rejeitados;
+
+    public ExecutorHashSenha(PasswordEncoder passwordEncoder,
+                             MeterRegistry meterRegistry,
+                             @Value("${sgca.security.hashing.threads:0}") int threads,
+                             @Value("${sgca.security.hashing.fila:64}") int capacidadeFila,
+                             @Value("${sgca.security.hashing.timeout-ms:5000}") long timeoutMs,
+                             @Value("${sgca.security.hashing.retry-after-segundos:2}") long retryAfterSegundos) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSegundos = retryAfterSegundos;
+
+        // 0 = metade dos núcleos, deixando CPU livre para o restante da API
+        int tamanho = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ThreadPoolExecutor(
+                tamanho, tamanho,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                new NomeadorThreads(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.tempoCodificar = Timer.builder("sgca.auth.hash")
+                .description("Latência do hash de senha")
+                .tag("operacao", "codificar")
+                .register(meterRegistry);
+        this.tempoConferir = Timer.builder("sgca.auth.hash")
+                .description("Latência do hash de senha")
+                .tag("operacao", "conferir")
+                .register(meterRegistry);
+        this.rejeitados = Counter.builder("sgca.auth.hash.rejeitados")
+                .description("Pedidos de hash recusados por fila cheia")
+                .register(meterRegistry);
+        Gauge.builder("sgca.auth.hash.fila", pool, p -> p.getQueue().size())
+                .description("Pedidos de hash aguardando na fila")
+                .register(meterRegistry);
+        Gauge.builder("sgca.auth.hash.ativos", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Threads calculando hash no momento")
+                .register(meterRegistry);
+    }
+
+    // ============================================================
+    // 🔹 OPERAÇÕES
+    // ============================================================
+    public String codificar(String senha) {
+        return executar(tempoCodificar, () -> passwordEncoder.encode(senha));
+    }
+
+    public boolean confere(String senha, String hash) {
+        return executar(tempoConferir, () -> passwordEncoder.matches(senha, hash));
+    }
+
+    /**
+     * Indica se o hash gravado usa algoritmo ou custo abaixo do configurado.
+     */
+    public boolean precisaAtualizar(String hash) {
+        return passwordEncoder.upgradeEncoding(hash);
+    }
+
+    /**
+     * Recalcula o hash sem bloquear quem chamou. Se a fila estiver cheia a
+     * atualização é descartada: será tentada de novo no próximo login.
+     */
+    public void recodificarEmSegundoPlano(String senha, Consumer<String> aoConcluir) {
+        try {
+            pool.execute(() -> aoConcluir.accept(tempoCodificar.record(() -> passwordEncoder.encode(senha))));
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+        }
+    }
+
+    // ============================================================
+    // 🔹 SUBMISSÃO COM BACKPRESSURE
+    // ============================================================
+    private <T> T executar(Timer timer, Callable<T> tarefa) {
+        Future<T> futuro;
+        try {
+            futuro = pool.submit(() -> timer.recordCallable(tarefa));
+        } catch (RejectedExecutionException e) {
+            rejeitados.increment();
+            throw new HashSenhaSaturadoException(retryAfterSegundos);
+        }
+
+        try {
+            return futuro.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            rejeitados.increment();
+            throw new HashSenhaSaturadoException(retryAfterSegundos);
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hash de senha interrompido.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Falha ao calcular hash de senha.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        pool.shutdown();
+    }
+
+    private static final class NomeadorThreads implements ThreadFactory {
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "hash-senha-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.faculdade.sgca.infrastructure.security;
+
+/**
+ * Lançada quando o executor de hash de senhas está com a fila cheia.
+ * O controller deve responder 429 com o cabeçalho Retry-After.
+ */
+public class HashSenhaSaturadoException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public HashSenhaSaturadoException(long retryAfterSegundos) {
+        super("Servidor de autenticação ocupado. Tente novamente em instantes.");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
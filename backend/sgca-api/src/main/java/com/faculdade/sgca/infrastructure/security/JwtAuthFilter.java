@@ -12,12 +12,14 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final ListaRevogacao listaRevogacao;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -45,25 +47,26 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String jwt = authHeader.substring(7);
 
-        // Extrai o e-mail (ou username) do token
-        String username = jwtService.extractUsername(jwt);
+        // Verifica assinatura e expiração uma única vez (ou reaproveita do cache)
+        // e descarta tokens revogados (checagem em memória, sem banco)
+        Optional<TokenVerificado> verificado = jwtService.verificar(jwt)
+                .filter(t -> !listaRevogacao.estaRevogado(t.jti()));
 
         // Se o token for válido e o contexto ainda não estiver autenticado
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtService.isTokenValid(jwt, username)) {
+        if (verificado.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // 🔐 Cria autenticação simples (sem UserDetails)
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                username, // principal
-                                null,     // credentials
-                                null      // authorities
-                        );
+            // 🔐 Autenticação montada só com as claims do token (sem UserDetails e sem banco)
+            UsuarioAutenticado usuario = UsuarioAutenticado.de(verificado.get());
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            usuario,                // principal
+                            null,                   // credentials
+                            usuario.authorities()   // ROLE_ADMIN, ROLE_PROFESSOR ou ROLE_ALUNO
+                    );
 
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
@@ -1,99 +1,158 @@
 package com.faculdade.sgca.infrastructure.security;
 
+import com.faculdade.sgca.domain.model.Usuario;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
-    @Value("${sgca.security.jwt.secret}")
-    private String secretKey;
+    private final long expirationMinutes;
+    private final Key signInKey;
+    private final JwtParser parser;
 
-    @Value("${sgca.security.jwt.expiration-minutes}")
-    private long expirationMinutes;
+    // Tokens já verificados, indexados pelo hash SHA-256 do token e expirados no "exp"
+    private final Cache<String, TokenVerificado> verificados;
+
+    public JwtService(@Value("${sgca.security.jwt.secret}") String secretKey,
+                      @Value("${sgca.security.jwt.expiration-minutes}") long expirationMinutes,
+                      @Value("${sgca.security.jwt.cache.max-size:10000}") long cacheMaxSize,
+                      MeterRegistry meterRegistry) {
+        this.expirationMinutes = expirationMinutes;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verificados = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new ExpiraNoExp())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verificados, "jwt-verificados");
+    }
 
     // ============================================================
     // 🔹 GERAR TOKEN JWT
     // ============================================================
-    public String generateToken(String username) {
+    public String generateToken(Usuario usuario) {
         Date now = new Date(System.currentTimeMillis());
         Date expiration = new Date(now.getTime() + expirationMinutes * 60 * 1000);
 
+        // id, nome e perfil vão no token para que a autorização não consulte o banco
         return Jwts.builder()
-                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(usuario.getEmail())
+                .claim(TokenVerificado.CLAIM_USUARIO_ID, usuario.getId())
+                .claim(TokenVerificado.CLAIM_NOME, usuario.getNome())
+                .claim(TokenVerificado.CLAIM_PERFIL, usuario.getPerfil() != null ? usuario.getPerfil().name() : null)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     // ============================================================
-    // 🔹 EXTRAIR USERNAME (E-MAIL)
+    // 🔹 VERIFICAR TOKEN (UMA ÚNICA DECODIFICAÇÃO)
     // ============================================================
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
+    /**
+     * Valida assinatura e expiração uma única vez e devolve subject, expiração e claims.
+     * Tokens já verificados são servidos do cache até o seu "exp".
+     * Retorna vazio para token malformado, com assinatura inválida ou expirado.
+     */
+    public Optional<TokenVerificado> verificar(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String chave = hash(token);
+        TokenVerificado emCache = verificados.getIfPresent(chave);
+        if (emCache != null) {
+            return emCache.expirado(Instant.now()) ? Optional.empty() : Optional.of(emCache);
+        }
 
-    // ============================================================
-    // 🔹 VALIDAR TOKEN
-    // ============================================================
-    public boolean isTokenValid(String token, String username) {
         try {
-            String subject = extractUsername(token);
-            return subject.equals(username) && !isTokenExpired(token);
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            TokenVerificado verificado = new TokenVerificado(
+                    claims.getSubject(),
+                    claims.getExpiration().toInstant(),
+                    claims
+            );
+            verificados.put(chave, verificado);
+            return Optional.of(verificado);
         } catch (JwtException | IllegalArgumentException e) {
-            return false; // Token malformado, expirado ou inválido
+            return Optional.empty(); // Token malformado, expirado ou inválido
         }
     }
 
     // ============================================================
-    // 🔹 VERIFICAR EXPIRAÇÃO
+    // 🔹 EXTRAIR USERNAME (E-MAIL)
     // ============================================================
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public String extractUsername(String token) {
+        return verificar(token)
+                .map(TokenVerificado::subject)
+                .orElseThrow(() -> new RuntimeException("Token inválido."));
     }
 
     // ============================================================
-    // 🔹 EXTRAIR CLAIM GENÉRICA
+    // 🔹 VALIDAR TOKEN
     // ============================================================
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public boolean isTokenValid(String token, String username) {
+        return verificar(token)
+                .map(t -> t.subject().equals(username))
+                .orElse(false);
     }
 
     // ============================================================
-    // 🔹 DECODIFICAR E VALIDAR ASSINATURA
+    // 🔹 CHAVE DO CACHE (NUNCA GUARDA O TOKEN EM CLARO)
     // ============================================================
-    private Claims extractAllClaims(String token) {
+    private static String hash(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSignInKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            throw new RuntimeException("Token expirado.");
-        } catch (JwtException e) {
-            throw new RuntimeException("Token inválido.");
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
         }
     }
 
-    // ============================================================
-    // 🔹 GERAR CHAVE A PARTIR DO SEGREDO BASE64
-    // ============================================================
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final class ExpiraNoExp implements Expiry<String, TokenVerificado> {
+
+        @Override
+        public long expireAfterCreate(String chave, TokenVerificado token, long currentTime) {
+            long restante = Duration.between(Instant.now(), token.expiracao()).toNanos();
+            return Math.max(restante, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, TokenVerificado token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String chave, TokenVerificado token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
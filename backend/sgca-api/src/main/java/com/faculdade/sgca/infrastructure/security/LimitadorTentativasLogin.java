@@ -0,0 +1,134 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limita tentativas de login por e-mail e por IP antes de qualquer consulta
+ * ao banco ou cálculo de BCrypt.
+ * <p>
+ * Cada chave tem uma janela deslizante aproximada (janela atual + anterior
+ * ponderada pelo tempo decorrido), atualizada só com CAS. As chaves ficam em
+ * caches Caffeine com tamanho máximo e expiração por inatividade, então a
+ * memória não cresce com o número de e-mails/IPs distintos atacando.
+ */
+@Component
+public class LimitadorTentativasLogin {
+
+    private final Limite porEmail;
+    private final Limite porIp;
+
+    public LimitadorTentativasLogin(MeterRegistry meterRegistry,
+                                    @Value("${sgca.security.login.email.max-tentativas:5}") int maxPorEmail,
+                                    @Value("${sgca.security.login.email.janela-segundos:300}") long janelaEmail,
+                                    @Value("${sgca.security.login.ip.max-tentativas:30}") int maxPorIp,
+                                    @Value("${sgca.security.login.ip.janela-segundos:60}") long janelaIp,
+                                    @Value("${sgca.security.login.max-chaves:100000}") long maxChaves) {
+        this.porEmail = new Limite("email", maxPorEmail, Duration.ofSeconds(janelaEmail), maxChaves, meterRegistry);
+        this.porIp = new Limite("ip", maxPorIp, Duration.ofSeconds(janelaIp), maxChaves, meterRegistry);
+    }
+
+    // ============================================================
+    // 🔹 REGISTRAR TENTATIVA (LANÇA EXCEÇÃO SE ACIMA DO LIMITE)
+    // ============================================================
+    public void registrarTentativa(String email, String ip) {
+        if (ip != null) {
+            porIp.consumir(ip);
+        }
+        porEmail.consumir(normalizar(email));
+    }
+
+    // ============================================================
+    // 🔹 LOGIN BEM-SUCEDIDO ZERA O CONTADOR DO E-MAIL
+    // ============================================================
+    public void registrarSucesso(String email) {
+        porEmail.janelas.invalidate(normalizar(email));
+    }
+
+    private static String normalizar(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ============================================================
+    // 🔹 LIMITE POR TIPO DE CHAVE
+    // ============================================================
+    private static final class Limite {
+
+        private final int maxTentativas;
+        private final long janelaMs;
+        private final Cache<String, JanelaDeslizante> janelas;
+        private final Counter rejeitados;
+
+        Limite(String tipo, int maxTentativas, Duration janela, long maxChaves, MeterRegistry meterRegistry) {
+            this.maxTentativas = maxTentativas;
+            this.janelaMs = janela.toMillis();
+            // a chave ainda pesa na janela seguinte, então vive por duas janelas sem uso
+            this.janelas = Caffeine.newBuilder()
+                    .maximumSize(maxChaves)
+                    .expireAfterAccess(janela.multipliedBy(2))
+                    .build();
+            this.rejeitados = Counter.builder("sgca.auth.login.rejeitados")
+                    .description("Tentativas de login recusadas pelo limitador")
+                    .tag("motivo", tipo)
+                    .register(meterRegistry);
+        }
+
+        void consumir(String chave) {
+            JanelaDeslizante janela = janelas.get(chave, k -> new JanelaDeslizante());
+            long esperaMs = janela.tentar(System.currentTimeMillis(), janelaMs, maxTentativas);
+            if (esperaMs > 0) {
+                rejeitados.increment();
+                throw new TentativasExcedidasException(Math.max(1, (esperaMs + 999) / 1000));
+            }
+        }
+    }
+
+    /**
+     * Contadores da janela atual e da anterior, trocados atomicamente via CAS.
+     */
+    private static final class JanelaDeslizante {
+
+        private record Estado(long janela, int atual, int anterior) {
+        }
+
+        private final AtomicReference<Estado> estado = new AtomicReference<>(new Estado(0, 0, 0));
+
+        /**
+         * @return 0 se a tentativa foi aceita; senão, milissegundos até a próxima janela
+         */
+        long tentar(long agoraMs, long janelaMs, int maxTentativas) {
+            long janelaAtual = agoraMs / janelaMs;
+            double decorrido = (double) (agoraMs % janelaMs) / janelaMs;
+
+            while (true) {
+                Estado e = estado.get();
+                Estado base;
+                if (e.janela() == janelaAtual) {
+                    base = e;
+                } else if (e.janela() == janelaAtual - 1) {
+                    base = new Estado(janelaAtual, 0, e.atual());
+                } else {
+                    base = new Estado(janelaAtual, 0, 0);
+                }
+
+                double estimativa = base.anterior() * (1.0 - decorrido) + base.atual();
+                if (estimativa >= maxTentativas) {
+                    return janelaMs - (agoraMs % janelaMs);
+                }
+
+                Estado novo = new Estado(janelaAtual, base.atual() + 1, base.anterior());
+                if (estado.compareAndSet(e, novo)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import com.faculdade.sgca.domain.model.TokenRevogado;
+import com.faculdade.sgca.infrastructure.repository.TokenRevogadoRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Denylist de tokens revogados (jti). A fonte da verdade é a tabela
+ * token_revogado; cada nó mantém um espelho em memória (filtro de Bloom +
+ * conjunto exato) para que o {@link JwtAuthFilter} nunca consulte o banco.
+ * As entradas somem quando o token expiraria de qualquer forma.
+ */
+@Slf4j
+@Component
+public class ListaRevogacao {
+
+    // Folga na sincronização para cobrir relógios levemente diferentes entre nós
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofSeconds(30);
+
+    private final TokenRevogadoRepository repository;
+    private final long capacidadeInicial;
+    private final double taxaFalsoPositivo;
+
+    private final Map<String, Instant> exatos = new ConcurrentHashMap<>();
+    private volatile FiltroBloom bloom;
+    private volatile Instant ultimaSincronizacao = Instant.EPOCH;
+
+    public ListaRevogacao(TokenRevogadoRepository repository,
+                          @Value("${sgca.security.revogacao.capacidade:100000}") long capacidadeInicial,
+                          @Value("${sgca.security.revogacao.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        this.repository = repository;
+        this.capacidadeInicial = capacidadeInicial;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.bloom = new FiltroBloom(capacidadeInicial, taxaFalsoPositivo);
+    }
+
+    // ============================================================
+    // 🔹 CONSULTA (CAMINHO QUENTE DO FILTRO)
+    // ============================================================
+    public boolean estaRevogado(String jti) {
+        if (jti == null || !bloom.talvezContem(jti)) {
+            return false;
+        }
+        return exatos.containsKey(jti);
+    }
+
+    // ============================================================
+    // 🔹 REVOGAR
+    // ============================================================
+    public void revogar(String jti, Instant expiraEm) {
+        if (!expiraEm.isAfter(Instant.now())) {
+            return; // já expirado: nada a revogar
+        }
+        repository.save(new TokenRevogado(jti, expiraEm));
+        registrar(jti, expiraEm);
+    }
+
+    private void registrar(String jti, Instant expiraEm) {
+        exatos.put(jti, expiraEm);
+        FiltroBloom atual = bloom;
+        atual.adicionar(jti);
+        // se o filtro foi trocado por um expurgo nesse meio-tempo, garante o jti no novo
+        if (bloom != atual) {
+            bloom.adicionar(jti);
+        }
+    }
+
+    // ============================================================
+    // 🔹 CARGA INICIAL E SINCRONIZAÇÃO ENTRE NÓS
+    // ============================================================
+    @PostConstruct
+    public void carregar() {
+        Instant agora = Instant.now();
+        repository.findByExpiraEmAfter(agora)
+                .forEach(t -> registrar(t.getJti(), t.getExpiraEm()));
+        ultimaSincronizacao = agora;
+        log.info("Lista de revogação carregada com {} tokens.", exatos.size());
+    }
+
+    @Scheduled(fixedDelayString = "${sgca.security.revogacao.sincronizar-ms:5000}")
+    public void sincronizar() {
+        Instant agora = Instant.now();
+        List<TokenRevogado> novos = repository.findByRevogadoEmAfterAndExpiraEmAfter(
+                ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO), agora);
+        novos.forEach(t -> registrar(t.getJti(), t.getExpiraEm()));
+        ultimaSincronizacao = agora;
+    }
+
+    // ============================================================
+    // 🔹 EXPURGO DE ENTRADAS EXPIRADAS
+    // ============================================================
+    @Scheduled(fixedDelayString = "${sgca.security.revogacao.expurgar-ms:60000}")
+    public void expurgar() {
+        Instant agora = Instant.now();
+        boolean removeu = exatos.values().removeIf(expiraEm -> !expiraEm.isAfter(agora));
+        repository.excluirExpirados(agora);
+
+        // Bloom não remove itens: reconstrói só com o que continua válido
+        if (removeu) {
+            FiltroBloom novo = new FiltroBloom(Math.max(capacidadeInicial, exatos.size() * 2L), taxaFalsoPositivo);
+            exatos.keySet().forEach(novo::adicionar);
+            bloom = novo;
+            // segunda passada: revogações registradas enquanto o filtro era montado
+            exatos.keySet().forEach(novo::adicionar);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PBKDF2 que grava o número de iterações junto do hash ({@code <iterações>$<hash>}).
+ * <p>
+ * O {@link Pbkdf2PasswordEncoder} não guarda as iterações no hash e nunca pede
+ * atualização: quando a calibração aumentava o custo, os hashes antigos não
+ * conferiam mais e também não eram regravados. Com as iterações no hash, cada
+ * um é conferido com o custo com que foi gerado, e {@link #upgradeEncoding}
+ * pede a regravação no login quando esse custo ficou abaixo do calibrado.
+ * Hash sem o prefixo (gravado antes dele existir) é conferido com o custo
+ * atual e sempre pede atualização.
+ */
+public class Pbkdf2ComIteracoesEncoder implements PasswordEncoder {
+
+    private static final char SEPARADOR = '$';
+
+    private final int iteracoes;
+    private final Map<Integer, Pbkdf2PasswordEncoder> porIteracoes = new ConcurrentHashMap<>();
+
+    public Pbkdf2ComIteracoesEncoder(int iteracoes) {
+        this.iteracoes = iteracoes;
+    }
+
+    @Override
+    public String encode(CharSequence senha) {
+        return iteracoes + String.valueOf(SEPARADOR) + encoder(iteracoes).encode(senha);
+    }
+
+    @Override
+    public boolean matches(CharSequence senha, String hash) {
+        if (hash == null) {
+            return false;
+        }
+        Integer gravadas = iteracoesDo(hash);
+        if (gravadas == null) {
+            return encoder(iteracoes).matches(senha, hash);
+        }
+        return encoder(gravadas).matches(senha, hash.substring(hash.indexOf(SEPARADOR) + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String hash) {
+        Integer gravadas = iteracoesDo(hash);
+        return gravadas == null || gravadas < iteracoes;
+    }
+
+    public int getIteracoes() {
+        return iteracoes;
+    }
+
+    // null quando o hash não traz as iterações
+    private static Integer iteracoesDo(String hash) {
+        int separador = hash == null ? -1 : hash.indexOf(SEPARADOR);
+        if (separador <= 0) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(hash.substring(0, separador));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Pbkdf2PasswordEncoder encoder(int n) {
+        return porIteracoes.computeIfAbsent(n, CalibradorSenha::pbkdf2);
+    }
+}
@@ -1,6 +1,7 @@
 package com.faculdade.sgca.infrastructure.security;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,10 +12,14 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -64,10 +69,39 @@ public class SecurityConfig {
         return http.build();
     }
 
-    // encoder padrão
+    // encoder delegante: grava com o algoritmo configurado (prefixo {id}) e ainda
+    // confere os hashes BCrypt antigos, gravados sem prefixo
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${sgca.security.password.algoritmo:bcrypt}") String algoritmo,
+            @Value("${sgca.security.password.alvo-ms:250}") long alvoMs,
+            @Value("${sgca.security.password.bcrypt.custo:0}") int custoBcrypt,
+            @Value("${sgca.security.password.bcrypt.custo-minimo:10}") int custoMinimo,
+            @Value("${sgca.security.password.bcrypt.custo-maximo:14}") int custoMaximo,
+            @Value("${sgca.security.password.pbkdf2.iteracoes:0}") int iteracoesPbkdf2,
+            @Value("${sgca.security.password.pbkdf2.iteracoes-minimas:310000}") int iteracoesMinimas) {
+
+        // só calibra o algoritmo usado para gravar; o outro fica no piso, apenas para conferência
+        boolean usaBcrypt = "bcrypt".equalsIgnoreCase(algoritmo);
+        boolean usaPbkdf2 = "pbkdf2".equalsIgnoreCase(algoritmo);
+        if (!usaBcrypt && !usaPbkdf2) {
+            throw new IllegalStateException("Algoritmo de senha não suportado: " + algoritmo);
+        }
+
+        int custo = custoBcrypt > 0 ? custoBcrypt
+                : usaBcrypt ? CalibradorSenha.calibrarBcrypt(alvoMs, custoMinimo, custoMaximo)
+                : custoMinimo;
+        int iteracoes = iteracoesPbkdf2 > 0 ? iteracoesPbkdf2
+                : usaPbkdf2 ? CalibradorSenha.calibrarPbkdf2(alvoMs, iteracoesMinimas)
+                : iteracoesMinimas;
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(custo));
+        encoders.put("pbkdf2", new Pbkdf2ComIteracoesEncoder(iteracoes));
+
+        DelegatingPasswordEncoder delegante = new DelegatingPasswordEncoder(algoritmo.toLowerCase(), encoders);
+        delegante.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return delegante;
     }
 
     // AuthenticationManager que o Spring usa internamente pra autenticação
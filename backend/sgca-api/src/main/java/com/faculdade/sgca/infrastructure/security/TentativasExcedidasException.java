@@ -0,0 +1,19 @@
+package com.faculdade.sgca.infrastructure.security;
+
+/**
+ * Lançada quando um e-mail ou IP excede o limite de tentativas de login
+ * na janela configurada. O controller deve responder 429 com Retry-After.
+ */
+public class TentativasExcedidasException extends RuntimeException {
+
+    private final long retryAfterSegundos;
+
+    public TentativasExcedidasException(long retryAfterSegundos) {
+        super("Muitas tentativas de login. Tente novamente mais tarde.");
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+
+    public long getRetryAfterSegundos() {
+        return retryAfterSegundos;
+    }
+}
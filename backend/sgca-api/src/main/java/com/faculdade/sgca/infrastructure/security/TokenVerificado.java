@@ -0,0 +1,45 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import com.faculdade.sgca.domain.model.PerfilUsuario;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Resultado de uma única verificação de assinatura e expiração do JWT.
+ * Tudo que o filtro e os controllers precisam sai daqui, sem reprocessar o token.
+ */
+public record TokenVerificado(String subject, Instant expiracao, Claims claims) {
+
+    public static final String CLAIM_USUARIO_ID = "uid";
+    public static final String CLAIM_NOME = "nome";
+    public static final String CLAIM_PERFIL = "perfil";
+
+    public boolean expirado(Instant agora) {
+        return !expiracao.isAfter(agora);
+    }
+
+    public String jti() {
+        return claims.getId();
+    }
+
+    public Long usuarioId() {
+        return claims.get(CLAIM_USUARIO_ID, Long.class);
+    }
+
+    public String nome() {
+        return claims.get(CLAIM_NOME, String.class);
+    }
+
+    public PerfilUsuario perfil() {
+        String perfil = claims.get(CLAIM_PERFIL, String.class);
+        if (perfil == null) {
+            return null;
+        }
+        try {
+            return PerfilUsuario.valueOf(perfil);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
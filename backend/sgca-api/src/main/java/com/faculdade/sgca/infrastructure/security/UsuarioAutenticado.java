@@ -0,0 +1,38 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import com.faculdade.sgca.domain.model.PerfilUsuario;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Principal montado a partir das claims do JWT, sem consulta ao banco.
+ * {@link #getName()} devolve o e-mail, como o principal antigo (String).
+ */
+public record UsuarioAutenticado(Long id, String email, String nome, PerfilUsuario perfil) implements Principal {
+
+    public static UsuarioAutenticado de(TokenVerificado token) {
+        return new UsuarioAutenticado(token.usuarioId(), token.subject(), token.nome(), token.perfil());
+    }
+
+    /**
+     * Tokens emitidos antes das claims de identidade não trazem id/perfil.
+     */
+    public boolean completo() {
+        return id != null && perfil != null;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        if (perfil == null) {
+            return List.of();
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_" + perfil.name()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -2,6 +2,7 @@ package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.application.dto.AlunoDTO;
 import com.faculdade.sgca.application.service.AlunoService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,10 +11,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -27,9 +28,21 @@ public class AlunoController {
 
     // 🔹 LISTAR
     @GetMapping
-    @Operation(summary = "Listar todos os alunos")
-    public ResponseEntity<List<AlunoDTO>> listar() {
-        return ResponseEntity.ok(service.listarTodos());
+    @Operation(summary = "Listar alunos em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listar(@RequestParam(required = false) String after,
+                                    @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit), AlunoDTO::getId, AlunoDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,11 +51,13 @@ public class AlunoController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Aluno encontrado",
                     content = @Content(schema = @Schema(implementation = AlunoDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Aluno inalterado (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            AlunoDTO aluno = service.buscarPorId(id);
+            return RespostaCondicional.registro(aluno, aluno.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
@@ -67,18 +82,26 @@ public class AlunoController {
 
     // 🔹 ATUALIZAR
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar dados do aluno")
+    @Operation(summary = "Atualizar dados do aluno",
+            description = "Com If-Match (ETag do GET) só altera se o aluno ainda estiver nessa versão.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Aluno atualizado com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Aluno alterado por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
     })
-    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody AlunoDTO dto) {
+    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody AlunoDTO dto,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            AlunoDTO atualizado = service.atualizar(id, dto);
-            return ResponseEntity.ok(atualizado);
+            AlunoDTO atualizado = service.atualizar(id, dto, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizado, atualizado.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
@@ -2,7 +2,14 @@ package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.domain.model.Usuario;
 import com.faculdade.sgca.infrastructure.repository.UsuarioRepository;
+import com.faculdade.sgca.infrastructure.security.ExecutorHashSenha;
+import com.faculdade.sgca.infrastructure.security.HashSenhaSaturadoException;
 import com.faculdade.sgca.infrastructure.security.JwtService;
+import com.faculdade.sgca.infrastructure.security.LimitadorTentativasLogin;
+import com.faculdade.sgca.infrastructure.security.ListaRevogacao;
+import com.faculdade.sgca.infrastructure.security.TentativasExcedidasException;
+import com.faculdade.sgca.infrastructure.security.TokenVerificado;
+import com.faculdade.sgca.infrastructure.security.UsuarioAutenticado;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -11,11 +18,11 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -28,8 +35,10 @@ import java.util.Map;
 public class AuthController {
 
     private final UsuarioRepository usuarioRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final ExecutorHashSenha executorHashSenha;
     private final JwtService jwtService;
+    private final ListaRevogacao listaRevogacao;
+    private final LimitadorTentativasLogin limitadorTentativasLogin;
 
     // ============================================
     // CADASTRAR NOVO USUÁRIO
@@ -42,7 +51,8 @@ public class AuthController {
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Usuário cadastrado com sucesso"),
             @ApiResponse(responseCode = "400", description = "Senhas não coincidem ou dados inválidos"),
-            @ApiResponse(responseCode = "409", description = "E-mail já cadastrado")
+            @ApiResponse(responseCode = "409", description = "E-mail já cadastrado"),
+            @ApiResponse(responseCode = "429", description = "Servidor de autenticação ocupado (ver Retry-After)")
     })
     @RequestBody(
             required = true,
@@ -72,10 +82,14 @@ public class AuthController {
                     .body(Map.of("erro", "As senhas não coincidem."));
         }
 
-        usuario.setSenha(passwordEncoder.encode(usuario.getSenha()));
+        try {
+            usuario.setSenha(executorHashSenha.codificar(usuario.getSenha()));
+        } catch (HashSenhaSaturadoException e) {
+            return ocupado(e);
+        }
         usuarioRepository.save(usuario);
 
-        String token = jwtService.generateToken(usuario.getEmail());
+        String token = jwtService.generateToken(usuario);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
                 "mensagem", "Usuário cadastrado com sucesso!",
@@ -99,7 +113,8 @@ public class AuthController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Login realizado com sucesso"),
-            @ApiResponse(responseCode = "401", description = "Credenciais inválidas")
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas"),
+            @ApiResponse(responseCode = "429", description = "Muitas tentativas ou servidor de autenticação ocupado (ver Retry-After)")
     })
     @RequestBody(
             required = true,
@@ -114,7 +129,8 @@ public class AuthController {
                     """)
             )
     )
-    public ResponseEntity<?> login(@org.springframework.web.bind.annotation.RequestBody Map<String, String> credenciais) {
+    public ResponseEntity<?> login(@org.springframework.web.bind.annotation.RequestBody Map<String, String> credenciais,
+                                   HttpServletRequest request) {
         String email = credenciais.get("email");
         String senha = credenciais.get("senha");
 
@@ -122,15 +138,46 @@ public class AuthController {
             return ResponseEntity.badRequest().body(Map.of("erro", "Campos 'email' e 'senha' são obrigatórios."));
         }
 
+        // 🚦 Barra força bruta antes de tocar no banco ou no BCrypt
+        try {
+            limitadorTentativasLogin.registrarTentativa(email, request.getRemoteAddr());
+        } catch (TentativasExcedidasException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSegundos()))
+                    .body(Map.of("erro", e.getMessage()));
+        }
+
         Usuario usuario = usuarioRepository.findByEmail(email)
                 .orElse(null);
 
-        if (usuario == null || !passwordEncoder.matches(senha, usuario.getSenha())) {
+        boolean senhaConfere;
+        try {
+            senhaConfere = usuario != null && executorHashSenha.confere(senha, usuario.getSenha());
+        } catch (HashSenhaSaturadoException e) {
+            return ocupado(e);
+        }
+
+        if (!senhaConfere) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("erro", "E-mail ou senha inválidos."));
         }
 
-        String token = jwtService.generateToken(email);
+        limitadorTentativasLogin.registrarSucesso(email);
+
+        // 🔁 Hash com algoritmo/custo desatualizado: regrava em segundo plano
+        if (executorHashSenha.precisaAtualizar(usuario.getSenha())) {
+            Long id = usuario.getId();
+            String hashAtual = usuario.getSenha();
+            executorHashSenha.recodificarEmSegundoPlano(senha, novoHash -> {
+                try {
+                    usuarioRepository.atualizarHashSenha(id, hashAtual, novoHash);
+                } catch (RuntimeException e) {
+                    log.warn("Falha ao atualizar hash de senha do usuário {}", id, e);
+                }
+            });
+        }
+
+        String token = jwtService.generateToken(usuario);
 
         return ResponseEntity.ok(Map.of(
                 "mensagem", "Login realizado com sucesso!",
@@ -164,9 +211,28 @@ public class AuthController {
         }
 
         String jwt = authHeader.substring(7);
-        String email = jwtService.extractUsername(jwt);
+        UsuarioAutenticado autenticado = jwtService.verificar(jwt)
+                .filter(t -> !listaRevogacao.estaRevogado(t.jti()))
+                .map(UsuarioAutenticado::de)
+                .orElse(null);
 
-        Usuario usuario = usuarioRepository.findByEmail(email)
+        if (autenticado == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("erro", "Token JWT ausente ou inválido."));
+        }
+
+        // Tokens atuais trazem id, nome e perfil: responde sem ir ao banco
+        if (autenticado.completo()) {
+            return ResponseEntity.ok(Map.of(
+                    "id", autenticado.id(),
+                    "nome", autenticado.nome() != null ? autenticado.nome() : "",
+                    "email", autenticado.email(),
+                    "perfil", autenticado.perfil()
+            ));
+        }
+
+        // Tokens emitidos antes das claims de identidade: consulta pelo e-mail
+        Usuario usuario = usuarioRepository.findByEmail(autenticado.email())
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
 
         return ResponseEntity.ok(Map.of(
@@ -176,4 +242,47 @@ public class AuthController {
                 "perfil", usuario.getPerfil()
         ));
     }
+
+    // ============================================
+    // LOGOUT (REVOGA O TOKEN ATUAL)
+    // ============================================
+    @PostMapping("/logout")
+    @Operation(
+            summary = "Revogar o token JWT atual (logout)",
+            description = "Inclui o token na lista de revogação; ele deixa de ser aceito em todos os nós até expirar."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Token revogado"),
+            @ApiResponse(responseCode = "400", description = "Token emitido sem identificador (jti)"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou ausente")
+    })
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("erro", "Token JWT ausente ou inválido."));
+        }
+
+        TokenVerificado token = jwtService.verificar(authHeader.substring(7)).orElse(null);
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("erro", "Token JWT ausente ou inválido."));
+        }
+        if (token.jti() == null) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("erro", "Token emitido sem identificador; aguarde a expiração."));
+        }
+
+        listaRevogacao.revogar(token.jti(), token.expiracao());
+        return ResponseEntity.noContent().build();
+    }
+
+    // ============================================
+    // AUXILIAR: 429 QUANDO O HASH ESTÁ SATURADO
+    // ============================================
+    private ResponseEntity<?> ocupado(HashSenhaSaturadoException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSegundos()))
+                .body(Map.of("erro", e.getMessage()));
+    }
 }
@@ -2,6 +2,7 @@ package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.application.dto.AvaliacaoDTO;
 import com.faculdade.sgca.application.service.AvaliacaoService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -12,10 +13,10 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -31,11 +32,22 @@ public class AvaliacaoController {
     // LISTAR
     // =============================
     @GetMapping
-    @Operation(summary = "Listar todas as avaliações")
-    public ResponseEntity<List<AvaliacaoDTO>> listar() {
-        List<AvaliacaoDTO> avaliacoes = service.listar();
-        if (avaliacoes.isEmpty()) return ResponseEntity.noContent().build();
-        return ResponseEntity.ok(avaliacoes);
+    @Operation(summary = "Listar avaliações em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listar(@RequestParam(required = false) String after,
+                                    @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit),
+                    AvaliacaoDTO::getId, AvaliacaoDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // =============================
@@ -45,11 +57,13 @@ public class AvaliacaoController {
     @Operation(summary = "Buscar avaliação por ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Avaliação encontrada"),
+            @ApiResponse(responseCode = "304", description = "Avaliação inalterada (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Avaliação não encontrada")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            AvaliacaoDTO avaliacao = service.buscarPorId(id);
+            return RespostaCondicional.registro(avaliacao, avaliacao.getVersao());
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
         }
@@ -95,11 +109,23 @@ public class AvaliacaoController {
     // ATUALIZAR
     // =============================
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar dados de uma avaliação")
-    public ResponseEntity<?> atualizar(@PathVariable Long id, @Valid @RequestBody AvaliacaoDTO dto) {
+    @Operation(summary = "Atualizar dados de uma avaliação",
+            description = "Com If-Match (ETag do GET) só altera se a avaliação ainda estiver nessa versão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Avaliação atualizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou avaliação não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Avaliação alterada por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
+    })
+    public ResponseEntity<?> atualizar(@PathVariable Long id, @Valid @RequestBody AvaliacaoDTO dto,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            AvaliacaoDTO atualizado = service.atualizar(id, dto);
-            return ResponseEntity.ok(atualizado);
+            AvaliacaoDTO atualizado = service.atualizar(id, dto, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizado, atualizado.getVersao());
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
         }
@@ -1,7 +1,10 @@
 package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.application.dto.CursoDTO;
+import com.faculdade.sgca.application.dto.ResumoCursoDTO;
 import com.faculdade.sgca.application.service.CursoService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
+import com.faculdade.sgca.application.service.ResumoCursoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,10 +13,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -24,12 +27,25 @@ import java.util.Map;
 public class CursoController {
 
     private final CursoService service;
+    private final ResumoCursoService resumoService;
 
     // 🔹 LISTAR
     @GetMapping
-    @Operation(summary = "Listar todos os cursos")
-    public ResponseEntity<List<CursoDTO>> listar() {
-        return ResponseEntity.ok(service.listarTodos());
+    @Operation(summary = "Listar cursos em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listar(@RequestParam(required = false) String after,
+                                    @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit), CursoDTO::getId, CursoDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,17 +54,48 @@ public class CursoController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Curso encontrado",
                     content = @Content(schema = @Schema(implementation = CursoDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Curso inalterado (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Curso não encontrado")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            CursoDTO curso = service.buscarPorId(id);
+            return RespostaCondicional.registro(curso, curso.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
         }
     }
 
+    // 🔹 RESUMO (INDICADORES AGREGADOS)
+    @GetMapping("/{id}/resumo")
+    @Operation(summary = "Indicadores do curso",
+            description = "Alunos ativos, turmas, média final e frequência média, no total ou em um período. "
+                    + "Calculado numa consulta agregada e mantido em cache por alguns segundos.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resumo calculado",
+                    content = @Content(schema = @Schema(implementation = ResumoCursoDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Curso não encontrado")
+    })
+    public ResponseEntity<?> resumo(@PathVariable Long id, @RequestParam(required = false) String periodo) {
+        try {
+            return ResponseEntity.ok(resumoService.resumir(id, periodo));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 RESUMO POR PERÍODO
+    @GetMapping("/{id}/resumo/periodos")
+    @Operation(summary = "Indicadores do curso em cada período")
+    public ResponseEntity<?> resumoPorPeriodo(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(resumoService.resumirPorPeriodo(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     // 🔹 CRIAR
     @PostMapping
     @Operation(summary = "Cadastrar novo curso")
@@ -67,18 +114,26 @@ public class CursoController {
 
     // 🔹 ATUALIZAR
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar curso existente")
+    @Operation(summary = "Atualizar curso existente",
+            description = "Com If-Match (ETag do GET) só altera se o curso ainda estiver nessa versão.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Curso atualizado com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Curso não encontrado")
+            @ApiResponse(responseCode = "404", description = "Curso não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Curso alterado por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
     })
-    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody CursoDTO dto) {
+    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody CursoDTO dto,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            CursoDTO atualizado = service.atualizar(id, dto);
-            return ResponseEntity.ok(atualizado);
+            CursoDTO atualizado = service.atualizar(id, dto, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizado, atualizado.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
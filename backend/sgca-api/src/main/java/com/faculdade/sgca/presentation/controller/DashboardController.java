@@ -0,0 +1,47 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.application.dto.DashboardResumoDTO;
+import com.faculdade.sgca.application.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Contagens gerais para os painéis")
+@SecurityRequirement(name = "bearerAuth")
+public class DashboardController {
+
+    private final DashboardService service;
+
+    // 🔹 RESUMO
+    @GetMapping("/resumo")
+    @Operation(summary = "Totais por entidade, matrículas ativas por período e usuários por perfil",
+            description = "Contado no banco e servido de um cache curto, recalculado em segundo plano; "
+                    + "os números podem estar alguns segundos atrasados (ver 'geradoEm').")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resumo retornado",
+                    content = @Content(schema = @Schema(implementation = DashboardResumoDTO.class))),
+            @ApiResponse(responseCode = "503", description = "Não foi possível calcular o resumo")
+    })
+    public ResponseEntity<?> resumo() {
+        try {
+            return ResponseEntity.ok(service.resumo());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("erro", e.getMessage()));
+        }
+    }
+}
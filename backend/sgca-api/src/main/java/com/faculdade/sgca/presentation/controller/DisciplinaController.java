@@ -2,6 +2,7 @@ package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.application.dto.DisciplinaDTO;
 import com.faculdade.sgca.application.service.DisciplinaService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,9 +29,22 @@ public class DisciplinaController {
 
     // 🔹 LISTAR TODAS
     @GetMapping
-    @Operation(summary = "Listar todas as disciplinas")
-    public ResponseEntity<List<DisciplinaDTO>> listar() {
-        return ResponseEntity.ok(service.listarTodas());
+    @Operation(summary = "Listar disciplinas em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listar(@RequestParam(required = false) String after,
+                                    @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit),
+                    DisciplinaDTO::getId, DisciplinaDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,11 +53,13 @@ public class DisciplinaController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Disciplina encontrada",
                     content = @Content(schema = @Schema(implementation = DisciplinaDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Disciplina inalterada (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Disciplina não encontrada")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            DisciplinaDTO disciplina = service.buscarPorId(id);
+            return RespostaCondicional.registro(disciplina, disciplina.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
@@ -53,7 +70,7 @@ public class DisciplinaController {
     @GetMapping("/curso/{cursoId}")
     @Operation(summary = "Listar disciplinas de um curso específico")
     public ResponseEntity<List<DisciplinaDTO>> buscarPorCurso(@PathVariable Long cursoId) {
-        return ResponseEntity.ok(service.buscarPorCurso(cursoId));
+        return RespostaCondicional.lista(service.buscarPorCurso(cursoId), DisciplinaDTO::getId, DisciplinaDTO::getVersao);
     }
 
     // 🔹 CRIAR
@@ -74,18 +91,26 @@ public class DisciplinaController {
 
     // 🔹 ATUALIZAR
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar dados da disciplina")
+    @Operation(summary = "Atualizar dados da disciplina",
+            description = "Com If-Match (ETag do GET) só altera se a disciplina ainda estiver nessa versão.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Disciplina atualizada com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Disciplina não encontrada")
+            @ApiResponse(responseCode = "404", description = "Disciplina não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Disciplina alterada por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
     })
-    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody DisciplinaDTO dto) {
+    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody DisciplinaDTO dto,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            DisciplinaDTO atualizada = service.atualizar(id, dto);
-            return ResponseEntity.ok(atualizada);
+            DisciplinaDTO atualizada = service.atualizar(id, dto, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizada, atualizada.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
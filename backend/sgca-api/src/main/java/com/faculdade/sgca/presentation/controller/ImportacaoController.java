@@ -0,0 +1,106 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.application.dto.ImportacaoJobDTO;
+import com.faculdade.sgca.application.service.ImportacaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/importacoes")
+@RequiredArgsConstructor
+@Tag(name = "Importações", description = "Carga em lote de alunos e matrículas (CSV ou NDJSON)")
+@SecurityRequirement(name = "bearerAuth")
+public class ImportacaoController {
+
+    private final ImportacaoService service;
+
+    // 🔹 IMPORTAR ALUNOS
+    @PostMapping("/alunos")
+    @Operation(summary = "Importar alunos",
+            description = "Envie o arquivo como corpo da requisição (não multipart). "
+                    + "Colunas: nome, email, cpf, dataNascimento, status. "
+                    + "Para continuar uma importação interrompida, reenvie o mesmo arquivo com 'retomar'.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação processada (ver status e rejeitadas)",
+                    content = @Content(schema = @Schema(implementation = ImportacaoJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Formato, cabeçalho ou importação a retomar inválidos"),
+            @ApiResponse(responseCode = "409", description = "Importação já em andamento")
+    })
+    public ResponseEntity<?> importarAlunos(InputStream corpo,
+                                            @RequestParam(defaultValue = "csv") String formato,
+                                            @Parameter(description = "Id da importação a retomar")
+                                            @RequestParam(required = false) Long retomar) {
+        try {
+            return ResponseEntity.ok(service.importarAlunos(corpo, formato, retomar));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 IMPORTAR MATRÍCULAS
+    @PostMapping("/matriculas")
+    @Operation(summary = "Importar matrículas",
+            description = "Envie o arquivo como corpo da requisição (não multipart). "
+                    + "Colunas: alunoId ou alunoCpf, turmaId, data, situacao.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação processada (ver status e rejeitadas)",
+                    content = @Content(schema = @Schema(implementation = ImportacaoJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Formato, cabeçalho ou importação a retomar inválidos"),
+            @ApiResponse(responseCode = "409", description = "Importação já em andamento")
+    })
+    public ResponseEntity<?> importarMatriculas(InputStream corpo,
+                                                @RequestParam(defaultValue = "csv") String formato,
+                                                @Parameter(description = "Id da importação a retomar")
+                                                @RequestParam(required = false) Long retomar) {
+        try {
+            return ResponseEntity.ok(service.importarMatriculas(corpo, formato, retomar));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 ACOMPANHAR
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar o progresso de uma importação")
+    public ResponseEntity<?> buscar(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(service.buscar(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 BAIXAR REJEITADAS
+    @GetMapping("/{id}/rejeitados")
+    @Operation(summary = "Baixar o relatório de linhas rejeitadas (CSV)")
+    public ResponseEntity<?> rejeitados(@PathVariable Long id) {
+        try {
+            Path arquivo = service.arquivoRejeitados(id);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"importacao-" + id + "-rejeitados.csv\"")
+                    .body(new FileSystemResource(arquivo));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+}
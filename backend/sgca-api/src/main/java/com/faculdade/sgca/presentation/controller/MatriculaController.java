@@ -1,7 +1,14 @@
 package com.faculdade.sgca.presentation.controller;
 
+import com.faculdade.sgca.application.dto.ListaEsperaDTO;
 import com.faculdade.sgca.application.dto.MatriculaDTO;
+import com.faculdade.sgca.application.service.ExportacaoService;
+import com.faculdade.sgca.application.service.FormatoExportacao;
+import com.faculdade.sgca.application.service.ListaEsperaService;
 import com.faculdade.sgca.application.service.MatriculaService;
+import com.faculdade.sgca.application.service.TurmaLotadaException;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
+import com.faculdade.sgca.infrastructure.config.FormatosBinariosConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,9 +17,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -24,12 +34,57 @@ import java.util.Map;
 public class MatriculaController {
 
     private final MatriculaService service;
+    private final ExportacaoService exportacaoService;
+    private final ListaEsperaService listaEsperaService;
 
     // 🔹 LISTAR TODAS
-    @GetMapping
-    @Operation(summary = "Listar todas as matrículas")
-    public ResponseEntity<List<MatriculaDTO>> listarTodas() {
-        return ResponseEntity.ok(service.listarTodas());
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Listar matrículas em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500. "
+                    + "Responde em JSON, CBOR ou Smile conforme o Accept (JSON por padrão).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listarTodas(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit),
+                    MatriculaDTO::getId, MatriculaDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 EXPORTAR (STREAMING)
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar matrículas em NDJSON, CSV, CBOR ou Smile",
+            description = "Escreve as linhas direto na resposta, sem montar a lista em memória. "
+                    + "Sem 'formato', o formato sai do Accept (text/csv, application/cbor, "
+                    + "application/x-jackson-smile), e NDJSON por padrão. Filtros opcionais por turma e período.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Arquivo gerado em streaming"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido")
+    })
+    public ResponseEntity<?> exportar(@RequestParam(required = false) String formato,
+                                      @RequestParam(required = false) Long turmaId,
+                                      @RequestParam(required = false) String periodo,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FormatoExportacao tipo;
+        try {
+            tipo = FormatoExportacao.de(formato, accept);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarMatriculas(turmaId, periodo, tipo, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(tipo.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"matriculas." + tipo.getExtensao() + "\"")
+                .body(corpo);
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,11 +93,13 @@ public class MatriculaController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Matrícula encontrada",
                     content = @Content(schema = @Schema(implementation = MatriculaDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Matrícula inalterada (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Matrícula não encontrada")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            MatriculaDTO matricula = service.buscarPorId(id);
+            return RespostaCondicional.registro(matricula, matricula.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
@@ -50,46 +107,126 @@ public class MatriculaController {
     }
 
     // 🔹 BUSCAR POR ALUNO
-    @GetMapping("/aluno/{alunoId}")
+    @GetMapping(value = "/aluno/{alunoId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar matrículas de um aluno específico")
     public ResponseEntity<List<MatriculaDTO>> buscarPorAluno(@PathVariable Long alunoId) {
-        return ResponseEntity.ok(service.buscarPorAluno(alunoId));
+        return RespostaCondicional.lista(service.buscarPorAluno(alunoId), MatriculaDTO::getId, MatriculaDTO::getVersao);
     }
 
     // 🔹 BUSCAR POR TURMA
-    @GetMapping("/turma/{turmaId}")
+    @GetMapping(value = "/turma/{turmaId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar matrículas de uma turma específica")
     public ResponseEntity<List<MatriculaDTO>> buscarPorTurma(@PathVariable Long turmaId) {
-        return ResponseEntity.ok(service.buscarPorTurma(turmaId));
+        return RespostaCondicional.lista(service.buscarPorTurma(turmaId), MatriculaDTO::getId, MatriculaDTO::getVersao);
     }
 
     // 🔹 CRIAR MATRÍCULA
     @PostMapping
-    @Operation(summary = "Cadastrar nova matrícula")
+    @Operation(summary = "Cadastrar nova matrícula",
+            description = "Com a turma lotada, o pedido de matrícula ATIVA entra na lista de espera da turma: "
+                    + "responde 202 com a posição na fila e o Location da entrada. Repetir o pedido devolve a "
+                    + "mesma entrada. Quando uma vaga é liberada, os primeiros da fila são matriculados em segundo plano.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Matrícula criada com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Turma lotada: aluno na lista de espera",
+                    content = @Content(schema = @Schema(implementation = ListaEsperaDTO.class))),
             @ApiResponse(responseCode = "400", description = "Dados inválidos ou duplicados")
     })
     public ResponseEntity<?> criar(@RequestBody MatriculaDTO dto) {
         try {
             MatriculaDTO criada = service.criar(dto);
             return ResponseEntity.status(HttpStatus.CREATED).body(criada);
+        } catch (TurmaLotadaException e) {
+            return entrarNaListaDeEspera(dto);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> entrarNaListaDeEspera(MatriculaDTO dto) {
+        try {
+            ListaEsperaDTO entrada = listaEsperaService.entrar(dto.getAlunoId(), dto.getTurmaId());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/matriculas/espera/" + entrada.getId()))
+                    .body(entrada);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 LISTA DE ESPERA: POSIÇÃO
+    @GetMapping("/espera/{id}")
+    @Operation(summary = "Consultar uma entrada da lista de espera e sua posição na fila")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Entrada encontrada",
+                    content = @Content(schema = @Schema(implementation = ListaEsperaDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Entrada não está mais na fila (promovida ou cancelada)")
+    })
+    public ResponseEntity<?> buscarEspera(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(listaEsperaService.buscarPorId(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 LISTA DE ESPERA: FILA DA TURMA
+    @GetMapping("/espera/turma/{turmaId}")
+    @Operation(summary = "Listar a fila de espera de uma turma, na ordem de promoção")
+    public ResponseEntity<List<ListaEsperaDTO>> listarEspera(@PathVariable Long turmaId) {
+        return ResponseEntity.ok(listaEsperaService.listarPorTurma(turmaId));
+    }
+
+    // 🔹 LISTA DE ESPERA: DESISTIR
+    @DeleteMapping("/espera/{id}")
+    @Operation(summary = "Retirar uma entrada da lista de espera")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Entrada removida"),
+            @ApiResponse(responseCode = "404", description = "Entrada não está mais na fila (promovida ou cancelada)")
+    })
+    public ResponseEntity<?> sairDaEspera(@PathVariable Long id) {
+        try {
+            listaEsperaService.sair(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("erro", e.getMessage()));
         }
     }
 
     // 🔹 ATUALIZAR SITUAÇÃO
     @PatchMapping("/{id}/situacao")
-    @Operation(summary = "Atualizar situação da matrícula (ATIVA, TRANCADA, CANCELADA)")
-    public ResponseEntity<?> atualizarSituacao(@PathVariable Long id, @RequestBody Map<String, String> body) {
+    @Operation(summary = "Atualizar situação da matrícula (ATIVA, TRANCADA, CANCELADA)",
+            description = "Com If-Match (ETag do GET) só altera se a matrícula ainda estiver nessa versão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação atualizada"),
+            @ApiResponse(responseCode = "404", description = "Matrícula não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Matrícula alterada por outra requisição ao mesmo tempo "
+                    + "ou turma sem vaga para reativá-la"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
+    })
+    public ResponseEntity<?> atualizarSituacao(@PathVariable Long id, @RequestBody Map<String, String> body,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             String situacao = body.get("situacao");
-            MatriculaDTO atualizada = service.atualizarSituacao(id, situacao);
-            return ResponseEntity.ok(atualizada);
+            MatriculaDTO atualizada = service.atualizarSituacao(id, situacao, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizada, atualizada.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("erro", e.getMessage()));
         }
     }
 
@@ -0,0 +1,55 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.application.dto.BoletimDTO;
+import com.faculdade.sgca.application.service.BoletimService;
+import com.faculdade.sgca.infrastructure.security.UsuarioAutenticado;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/me")
+@RequiredArgsConstructor
+@Tag(name = "Área do aluno", description = "Dados do aluno autenticado (resolvido pelo e-mail do token)")
+@SecurityRequirement(name = "bearerAuth")
+public class MeController {
+
+    private final BoletimService boletimService;
+
+    // 🔹 BOLETIM
+    @GetMapping("/boletim")
+    @Operation(summary = "Boletim do aluno autenticado",
+            description = "Matrículas com turma, disciplina e curso, notas por avaliação, média final ponderada "
+                    + "e frequência, numa resposta só.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Boletim retornado",
+                    content = @Content(schema = @Schema(implementation = BoletimDTO.class))),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou ausente"),
+            @ApiResponse(responseCode = "404", description = "Usuário sem aluno vinculado")
+    })
+    public ResponseEntity<?> boletim(@Parameter(hidden = true) @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        if (usuario == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("erro", "Token JWT ausente ou inválido."));
+        }
+        try {
+            return ResponseEntity.ok(boletimService.buscarPorEmail(usuario.email()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.application.dto.NotaDTO;
+import com.faculdade.sgca.application.dto.NotaLoteDTO;
+import com.faculdade.sgca.application.dto.ResultadoLoteDTO;
+import com.faculdade.sgca.application.service.ExportacaoService;
+import com.faculdade.sgca.application.service.FormatoExportacao;
 import com.faculdade.sgca.application.service.NotaService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
+import com.faculdade.sgca.infrastructure.config.FormatosBinariosConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,8 +16,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -24,12 +32,55 @@ import java.util.Map;
 public class NotaController {
 
     private final NotaService service;
+    private final ExportacaoService exportacaoService;
 
     // 🔹 LISTAR TODAS
-    @GetMapping
-    @Operation(summary = "Listar todas as notas")
-    public ResponseEntity<List<NotaDTO>> listarTodas() {
-        return ResponseEntity.ok(service.listarTodas());
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Listar notas em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500. "
+                    + "Responde em JSON, CBOR ou Smile conforme o Accept (JSON por padrão).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listarTodas(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit), NotaDTO::getId, NotaDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 EXPORTAR (STREAMING)
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar notas em NDJSON, CSV, CBOR ou Smile",
+            description = "Escreve as linhas direto na resposta, sem montar a lista em memória. "
+                    + "Sem 'formato', o formato sai do Accept (text/csv, application/cbor, "
+                    + "application/x-jackson-smile), e NDJSON por padrão. Filtros opcionais por turma e período.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Arquivo gerado em streaming"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido")
+    })
+    public ResponseEntity<?> exportar(@RequestParam(required = false) String formato,
+                                      @RequestParam(required = false) Long turmaId,
+                                      @RequestParam(required = false) String periodo,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FormatoExportacao tipo;
+        try {
+            tipo = FormatoExportacao.de(formato, accept);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarNotas(turmaId, periodo, tipo, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(tipo.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"notas." + tipo.getExtensao() + "\"")
+                .body(corpo);
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,11 +89,13 @@ public class NotaController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Nota encontrada",
                     content = @Content(schema = @Schema(implementation = NotaDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Nota inalterada (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Nota não encontrada")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            NotaDTO nota = service.buscarPorId(id);
+            return RespostaCondicional.registro(nota, nota.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
@@ -50,17 +103,21 @@ public class NotaController {
     }
 
     // 🔹 BUSCAR POR MATRÍCULA
-    @GetMapping("/matricula/{matriculaId}")
+    @GetMapping(value = "/matricula/{matriculaId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar notas de uma matrícula específica")
     public ResponseEntity<List<NotaDTO>> buscarPorMatricula(@PathVariable Long matriculaId) {
-        return ResponseEntity.ok(service.buscarPorMatricula(matriculaId));
+        return RespostaCondicional.lista(service.buscarPorMatricula(matriculaId), NotaDTO::getId, NotaDTO::getVersao);
     }
 
     // 🔹 BUSCAR POR TURMA
-    @GetMapping("/turma/{turmaId}")
+    @GetMapping(value = "/turma/{turmaId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar notas de uma turma específica")
     public ResponseEntity<List<NotaDTO>> buscarPorTurma(@PathVariable Long turmaId) {
-        return ResponseEntity.ok(service.buscarPorTurma(turmaId));
+        return RespostaCondicional.lista(service.buscarPorTurma(turmaId), NotaDTO::getId, NotaDTO::getVersao);
     }
 
     // 🔹 CRIAR
@@ -79,17 +136,47 @@ public class NotaController {
         }
     }
 
+    // 🔹 LANÇAMENTO EM LOTE
+    @PostMapping("/lote")
+    @Operation(summary = "Lançar ou corrigir as notas de uma avaliação para vários alunos",
+            description = "Grava todas as notas válidas em uma única transação. Notas já lançadas são "
+                    + "corrigidas; linhas fora de 0 a 10 ou de matrículas de outra turma são rejeitadas uma a uma.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote processado; ver o status de cada linha",
+                    content = @Content(schema = @Schema(implementation = ResultadoLoteDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Avaliação inexistente ou lote inválido")
+    })
+    public ResponseEntity<?> lancarLote(@RequestBody NotaLoteDTO dto) {
+        try {
+            return ResponseEntity.ok(service.lancarLote(dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     // 🔹 ATUALIZAR VALOR
     @PatchMapping("/{id}/valor")
-    @Operation(summary = "Atualizar valor da nota")
-    public ResponseEntity<?> atualizarValor(@PathVariable Long id, @RequestBody Map<String, Double> body) {
+    @Operation(summary = "Atualizar valor da nota",
+            description = "Com If-Match (ETag do GET) só altera se a nota ainda estiver nessa versão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Nota atualizada"),
+            @ApiResponse(responseCode = "400", description = "Valor inválido ou nota não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Nota alterada por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
+    })
+    public ResponseEntity<?> atualizarValor(@PathVariable Long id, @RequestBody Map<String, Double> body,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             double novoValor = body.getOrDefault("valor", -1.0);
-            NotaDTO atualizada = service.atualizarValor(id, novoValor);
-            return ResponseEntity.ok(atualizada);
+            NotaDTO atualizada = service.atualizarValor(id, novoValor, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizada, atualizada.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
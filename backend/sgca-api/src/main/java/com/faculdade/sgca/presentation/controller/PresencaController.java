@@ -1,7 +1,15 @@
 package com.faculdade.sgca.presentation.controller;
 
+import com.faculdade.sgca.application.dto.FrequenciaDTO;
 import com.faculdade.sgca.application.dto.PresencaDTO;
+import com.faculdade.sgca.application.dto.PresencaLoteDTO;
+import com.faculdade.sgca.application.dto.ResultadoLoteDTO;
+import com.faculdade.sgca.application.service.ExportacaoService;
+import com.faculdade.sgca.application.service.FormatoExportacao;
+import com.faculdade.sgca.application.service.FrequenciaService;
 import com.faculdade.sgca.application.service.PresencaService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
+import com.faculdade.sgca.infrastructure.config.FormatosBinariosConfig;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,8 +18,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -24,12 +34,57 @@ import java.util.Map;
 public class PresencaController {
 
     private final PresencaService service;
+    private final ExportacaoService exportacaoService;
+    private final FrequenciaService frequenciaService;
 
     // 🔹 LISTAR TODAS
-    @GetMapping
-    @Operation(summary = "Listar todas as presenças")
-    public ResponseEntity<List<PresencaDTO>> listarTodas() {
-        return ResponseEntity.ok(service.listarTodas());
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Listar presenças em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500. "
+                    + "Responde em JSON, CBOR ou Smile conforme o Accept (JSON por padrão).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listarTodas(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit),
+                    PresencaDTO::getId, PresencaDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 EXPORTAR (STREAMING)
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar presenças em NDJSON, CSV, CBOR ou Smile",
+            description = "Escreve as linhas direto na resposta, sem montar a lista em memória. "
+                    + "Sem 'formato', o formato sai do Accept (text/csv, application/cbor, "
+                    + "application/x-jackson-smile), e NDJSON por padrão. Filtros opcionais por turma e período.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Arquivo gerado em streaming"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido")
+    })
+    public ResponseEntity<?> exportar(@RequestParam(required = false) String formato,
+                                      @RequestParam(required = false) Long turmaId,
+                                      @RequestParam(required = false) String periodo,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FormatoExportacao tipo;
+        try {
+            tipo = FormatoExportacao.de(formato, accept);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarPresencas(turmaId, periodo, tipo, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(tipo.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"presencas." + tipo.getExtensao() + "\"")
+                .body(corpo);
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,28 +93,83 @@ public class PresencaController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Presença encontrada",
                     content = @Content(schema = @Schema(implementation = PresencaDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Presença inalterada (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Presença não encontrada")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            PresencaDTO presenca = service.buscarPorId(id);
+            return RespostaCondicional.registro(presenca, presenca.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
         }
     }
 
     // 🔹 BUSCAR POR TURMA
-    @GetMapping("/turma/{turmaId}")
+    @GetMapping(value = "/turma/{turmaId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar presenças de uma turma específica")
     public ResponseEntity<List<PresencaDTO>> buscarPorTurma(@PathVariable Long turmaId) {
-        return ResponseEntity.ok(service.buscarPorTurma(turmaId));
+        return RespostaCondicional.lista(service.buscarPorTurma(turmaId), PresencaDTO::getId, PresencaDTO::getVersao);
     }
 
     // 🔹 BUSCAR POR MATRÍCULA
-    @GetMapping("/matricula/{matriculaId}")
+    @GetMapping(value = "/matricula/{matriculaId}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    FormatosBinariosConfig.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar presenças de uma matrícula específica")
     public ResponseEntity<List<PresencaDTO>> buscarPorMatricula(@PathVariable Long matriculaId) {
-        return ResponseEntity.ok(service.buscarPorMatricula(matriculaId));
+        return RespostaCondicional.lista(service.buscarPorMatricula(matriculaId), PresencaDTO::getId, PresencaDTO::getVersao);
+    }
+
+    // 🔹 FREQUÊNCIA POR TURMA
+    @GetMapping("/frequencia/turma/{turmaId}")
+    @Operation(summary = "Frequência de cada matrícula da turma",
+            description = "Lida dos contadores por matrícula, sem recontar as presenças.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Frequências retornadas",
+                    content = @Content(schema = @Schema(implementation = FrequenciaDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Turma não encontrada")
+    })
+    public ResponseEntity<?> frequenciaPorTurma(@PathVariable Long turmaId) {
+        try {
+            return ResponseEntity.ok(frequenciaService.buscarPorTurma(turmaId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 FREQUÊNCIA POR ALUNO
+    @GetMapping("/frequencia/aluno/{alunoId}")
+    @Operation(summary = "Frequência do aluno em cada uma das suas matrículas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Frequências retornadas",
+                    content = @Content(schema = @Schema(implementation = FrequenciaDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Aluno não encontrado")
+    })
+    public ResponseEntity<?> frequenciaPorAluno(@PathVariable Long alunoId) {
+        try {
+            return ResponseEntity.ok(frequenciaService.buscarPorAluno(alunoId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 RECONCILIAR CONTADORES DE FREQUÊNCIA
+    @PostMapping("/frequencia/reconciliar")
+    @Operation(summary = "Reconstruir os contadores de frequência a partir das presenças",
+            description = "Também roda automaticamente uma vez por dia (sgca.frequencia.reconciliacao.cron).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Turmas verificadas e contadores corrigidos"),
+            @ApiResponse(responseCode = "409", description = "Reconciliação já em andamento")
+    })
+    public ResponseEntity<?> reconciliarFrequencia() {
+        try {
+            return ResponseEntity.ok(frequenciaService.reconciliar());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // 🔹 CRIAR
@@ -78,16 +188,46 @@ public class PresencaController {
         }
     }
 
+    // 🔹 CHAMADA EM LOTE
+    @PostMapping("/lote")
+    @Operation(summary = "Registrar a chamada de uma turma inteira",
+            description = "Grava ou atualiza a presença de cada matrícula da turma na data informada, "
+                    + "em uma única requisição. Matrículas que não pertencem à turma são rejeitadas linha a linha.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lote processado; ver o status de cada linha",
+                    content = @Content(schema = @Schema(implementation = ResultadoLoteDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Turma, data ou lote inválidos")
+    })
+    public ResponseEntity<?> registrarLote(@RequestBody PresencaLoteDTO dto) {
+        try {
+            return ResponseEntity.ok(service.registrarLote(dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     // 🔹 ATUALIZAR PRESENÇA
     @PatchMapping("/{id}")
-    @Operation(summary = "Atualizar status de presença (presente/ausente)")
-    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody Map<String, Boolean> body) {
+    @Operation(summary = "Atualizar status de presença (presente/ausente)",
+            description = "Com If-Match (ETag do GET) só altera se a presença ainda estiver nessa versão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Presença atualizada"),
+            @ApiResponse(responseCode = "404", description = "Presença não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Presença alterada por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
+    })
+    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody Map<String, Boolean> body,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
             boolean presente = body.getOrDefault("presente", false);
-            PresencaDTO atualizada = service.atualizar(id, presente);
-            return ResponseEntity.ok(atualizada);
+            PresencaDTO atualizada = service.atualizar(id, presente, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizada, atualizada.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
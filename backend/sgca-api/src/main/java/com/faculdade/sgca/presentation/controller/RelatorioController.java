@@ -0,0 +1,93 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.application.dto.RelatorioJobDTO;
+import com.faculdade.sgca.application.dto.RelatorioSolicitacaoDTO;
+import com.faculdade.sgca.application.service.RelatorioJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/relatorios")
+@RequiredArgsConstructor
+@Tag(name = "Relatórios", description = "Geração de relatórios de aluno e de curso em segundo plano")
+@SecurityRequirement(name = "bearerAuth")
+public class RelatorioController {
+
+    private final RelatorioJobService service;
+
+    // 🔹 SOLICITAR
+    @PostMapping
+    @Operation(summary = "Solicitar um relatório",
+            description = "Responde na hora com o job. Pedidos iguais recebem o mesmo id: se o resultado "
+                    + "ainda estiver no cache, a resposta já vem CONCLUIDO (200); senão, 202 e o "
+                    + "relatório é gerado em segundo plano.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado já disponível",
+                    content = @Content(schema = @Schema(implementation = RelatorioJobDTO.class))),
+            @ApiResponse(responseCode = "202", description = "Relatório na fila ou em geração",
+                    content = @Content(schema = @Schema(implementation = RelatorioJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Pedido inválido ou aluno/curso inexistente"),
+            @ApiResponse(responseCode = "503", description = "Fila de relatórios cheia")
+    })
+    public ResponseEntity<?> solicitar(@RequestBody RelatorioSolicitacaoDTO dto) {
+        try {
+            RelatorioJobDTO job = service.submeter(dto);
+            if (RelatorioJobDTO.CONCLUIDO.equals(job.getStatus())) {
+                return ResponseEntity.ok(job);
+            }
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/relatorios/" + job.getId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 ACOMPANHAR
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar a situação de um relatório")
+    public ResponseEntity<?> buscar(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(service.buscar(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 BAIXAR RESULTADO
+    @GetMapping("/{id}/resultado")
+    @Operation(summary = "Baixar o relatório gerado (texto)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Relatório"),
+            @ApiResponse(responseCode = "404", description = "Relatório não encontrado ou expirado"),
+            @ApiResponse(responseCode = "409", description = "Relatório ainda em geração ou com falha")
+    })
+    public ResponseEntity<?> resultado(@PathVariable String id) {
+        try {
+            Path arquivo = service.arquivoResultado(id);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/plain; charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"relatorio-" + id + ".txt\"")
+                    .body(new FileSystemResource(arquivo));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("erro", e.getMessage()));
+        }
+    }
+}
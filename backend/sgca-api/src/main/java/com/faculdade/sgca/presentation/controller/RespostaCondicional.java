@@ -0,0 +1,188 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.application.dto.PaginaCursor;
+import com.faculdade.sgca.infrastructure.config.FormatosBinariosConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ETag e If-Match dos recursos versionados.
+ * <p>
+ * No GET por id o ETag é a própria versão do registro ({@code @Version}); nas
+ * listas é um hash dos pares (id, versão) dos itens, que muda com qualquer
+ * inclusão, exclusão ou alteração; nas páginas o hash cobre também o limite e
+ * o cursor da próxima página, que mudam quando entra ou sai uma linha depois
+ * da última página sem mexer nos itens dela. Basta a {@link ResponseEntity} sair com o
+ * ETag: num GET com If-None-Match igual o Spring responde 304 sem serializar
+ * o corpo. Nas alterações o If-Match vira a versão esperada pelo service.
+ * <p>
+ * O mesmo recurso pode sair em JSON, CBOR ou Smile, com bytes diferentes. Um
+ * ETag forte identifica uma representação só, então os formatos binários levam
+ * um sufixo ({@code "5-cbor"}, {@code "l-…-smile"}); JSON fica sem sufixo. O
+ * formato é o que a negociação vai escolher pelo Accept, resolvido aqui porque
+ * o Spring compara o If-None-Match antes de escolher o conversor. As respostas
+ * também levam {@code Vary: Accept} para os caches intermediários.
+ */
+final class RespostaCondicional {
+
+    // não é versão de nenhum registro: If-Match que não casa com nada
+    private static final long VERSAO_INEXISTENTE = -1L;
+
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(FormatosBinariosConfig.APPLICATION_SMILE_VALUE);
+
+    // na ordem dos conversores: com curinga no Accept sai o primeiro, JSON
+    private static final List<MediaType> FORMATOS =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    static final String ALTERACAO_CONCORRENTE =
+            "O registro foi alterado por outra requisição ao mesmo tempo. Recarregue e tente de novo.";
+
+    private RespostaCondicional() {
+    }
+
+    // ============================================================
+    // 🔹 ETAG NAS RESPOSTAS
+    // ============================================================
+    static <T> ResponseEntity<T> registro(T corpo, Long versao) {
+        return ResponseEntity.ok().eTag(etag(String.valueOf(versao))).varyBy(HttpHeaders.ACCEPT).body(corpo);
+    }
+
+    static <T> ResponseEntity<List<T>> lista(List<T> itens, Function<T, Long> id, Function<T, Long> versao) {
+        return ResponseEntity.ok().eTag(etag(hash(itens, id, versao, ""))).varyBy(HttpHeaders.ACCEPT).body(itens);
+    }
+
+    static <T> ResponseEntity<PaginaCursor<T>> pagina(PaginaCursor<T> pagina,
+                                                      Function<T, Long> id, Function<T, Long> versao) {
+        String navegacao = pagina.getLimite() + ":" + (pagina.getProximoCursor() != null ? pagina.getProximoCursor() : "");
+        return ResponseEntity.ok().eTag(etag(hash(pagina.getItens(), id, versao, navegacao)))
+                .varyBy(HttpHeaders.ACCEPT).body(pagina);
+    }
+
+    // ============================================================
+    // 🔹 IF-MATCH
+    // ============================================================
+
+    /**
+     * Versão exigida pelo If-Match, ou nulo quando o cabeçalho está ausente ou
+     * é "*". Comparação forte: ETag fraco ou que não é nosso nunca casa.
+     * Aceita uma única versão, com ou sem o sufixo de formato (o ETag de um GET
+     * em CBOR serve para o PUT em JSON: a versão do registro é a mesma).
+     * Uma lista de ETags só casa se trouxer "*".
+     */
+    static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (List.of(valor.split("\\s*,\\s*")).contains("*")) {
+            return null;
+        }
+        if (valor.length() < 2 || !valor.startsWith("\"") || !valor.endsWith("\"")) {
+            return VERSAO_INEXISTENTE;
+        }
+        String etag = valor.substring(1, valor.length() - 1);
+        int sufixo = etag.indexOf('-');
+        if (sufixo > 0 && !List.of("cbor", "smile").contains(etag.substring(sufixo + 1))) {
+            return VERSAO_INEXISTENTE;
+        }
+        try {
+            return Long.parseLong(sufixo > 0 ? etag.substring(0, sufixo) : etag);
+        } catch (NumberFormatException e) {
+            return VERSAO_INEXISTENTE;
+        }
+    }
+
+    /**
+     * Versão divergente (If-Match) ou alteração concorrente detectada pelo
+     * {@code @Version}: 412 quando o cliente mandou If-Match, 409 quando não.
+     */
+    static ResponseEntity<?> versaoDivergente(String ifMatch, String mensagem) {
+        HttpStatus status = ifMatch != null && !ifMatch.isBlank() ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(Map.of("erro", mensagem));
+    }
+
+    // ============================================================
+    // 🔹 AUXILIARES
+    // ============================================================
+    private static String etag(String valor) {
+        String formato = sufixoDoFormato();
+        return "\"" + valor + (formato.isEmpty() ? "" : "-" + formato) + "\"";
+    }
+
+    /**
+     * Formato que a negociação vai escolher para a requisição atual: o de maior
+     * qualidade no Accept, o tipo exato antes do curinga, e JSON no empate com
+     * curinga ou sem Accept. Vazio para JSON, "cbor" ou "smile" para os outros.
+     */
+    static String sufixoDoFormato() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos)) {
+            return "";
+        }
+        String accept = atributos.getRequest().getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> aceitos;
+        try {
+            aceitos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return "";
+        }
+
+        MediaType escolhido = null;
+        double melhorQualidade = 0;
+        boolean melhorExato = false;
+        for (MediaType aceito : aceitos) {
+            double qualidade = aceito.getQualityValue();
+            boolean exato = aceito.isConcrete();
+            if (qualidade <= 0 || qualidade < melhorQualidade
+                    || (qualidade == melhorQualidade && (melhorExato || !exato))) {
+                continue;
+            }
+            for (MediaType formato : FORMATOS) {
+                if (aceito.isCompatibleWith(formato)) {
+                    escolhido = formato;
+                    melhorQualidade = qualidade;
+                    melhorExato = exato;
+                    break;
+                }
+            }
+        }
+        if (MediaType.APPLICATION_CBOR.equals(escolhido)) {
+            return "cbor";
+        }
+        return APPLICATION_SMILE.equals(escolhido) ? "smile" : "";
+    }
+
+    private static <T> String hash(List<T> itens, Function<T, Long> id, Function<T, Long> versao, String complemento) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        ByteBuffer par = ByteBuffer.allocate(2 * Long.BYTES);
+        for (T item : itens) {
+            Long v = versao.apply(item);
+            par.clear();
+            par.putLong(id.apply(item)).putLong(v != null ? v : VERSAO_INEXISTENTE);
+            digest.update(par.array());
+        }
+        digest.update(complemento.getBytes(StandardCharsets.UTF_8));
+        return "l-" + HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+}
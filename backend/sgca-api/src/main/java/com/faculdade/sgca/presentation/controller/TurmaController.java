@@ -1,7 +1,13 @@
 package com.faculdade.sgca.presentation.controller;
 
+import com.faculdade.sgca.application.dto.PautaDTO;
+import com.faculdade.sgca.application.dto.RolloverJobDTO;
+import com.faculdade.sgca.application.dto.RolloverPeriodoDTO;
 import com.faculdade.sgca.application.dto.TurmaDTO;
+import com.faculdade.sgca.application.service.PautaService;
+import com.faculdade.sgca.application.service.RolloverService;
 import com.faculdade.sgca.application.service.TurmaService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,9 +16,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -24,12 +32,26 @@ import java.util.Map;
 public class TurmaController {
 
     private final TurmaService service;
+    private final RolloverService rolloverService;
+    private final PautaService pautaService;
 
     // 🔹 LISTAR TODAS
     @GetMapping
-    @Operation(summary = "Listar todas as turmas")
-    public ResponseEntity<List<TurmaDTO>> listarTodas() {
-        return ResponseEntity.ok(service.listarTodas());
+    @Operation(summary = "Listar turmas em páginas",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listarTodas(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit), TurmaDTO::getId, TurmaDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // 🔹 BUSCAR POR ID
@@ -38,11 +60,31 @@ public class TurmaController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Turma encontrada",
                     content = @Content(schema = @Schema(implementation = TurmaDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Turma inalterada (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Turma não encontrada")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            TurmaDTO turma = service.buscarPorId(id);
+            return RespostaCondicional.registro(turma, turma.getVersao());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 PAUTA (NOTAS E MÉDIAS FINAIS)
+    @GetMapping("/{id}/pauta")
+    @Operation(summary = "Pauta da turma",
+            description = "Nota de cada matrícula em cada avaliação e a média final ponderada, "
+                    + "calculada no servidor com a regra de cada tipo de avaliação.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pauta gerada",
+                    content = @Content(schema = @Schema(implementation = PautaDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Turma não encontrada")
+    })
+    public ResponseEntity<?> pauta(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(pautaService.buscarPorTurma(id));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
         }
@@ -52,21 +94,21 @@ public class TurmaController {
     @GetMapping("/disciplina/{disciplinaId}")
     @Operation(summary = "Listar turmas de uma disciplina específica")
     public ResponseEntity<List<TurmaDTO>> buscarPorDisciplina(@PathVariable Long disciplinaId) {
-        return ResponseEntity.ok(service.buscarPorDisciplina(disciplinaId));
+        return RespostaCondicional.lista(service.buscarPorDisciplina(disciplinaId), TurmaDTO::getId, TurmaDTO::getVersao);
     }
 
     // 🔹 FILTRAR POR PROFESSOR
     @GetMapping("/professor/{professorId}")
     @Operation(summary = "Listar turmas de um professor específico")
     public ResponseEntity<List<TurmaDTO>> buscarPorProfessor(@PathVariable Long professorId) {
-        return ResponseEntity.ok(service.buscarPorProfessor(professorId));
+        return RespostaCondicional.lista(service.buscarPorProfessor(professorId), TurmaDTO::getId, TurmaDTO::getVersao);
     }
 
     // 🔹 FILTRAR POR PERÍODO
     @GetMapping("/periodo/{periodo}")
     @Operation(summary = "Listar turmas por período (ex: 2025.1)")
     public ResponseEntity<List<TurmaDTO>> buscarPorPeriodo(@PathVariable String periodo) {
-        return ResponseEntity.ok(service.buscarPorPeriodo(periodo));
+        return RespostaCondicional.lista(service.buscarPorPeriodo(periodo), TurmaDTO::getId, TurmaDTO::getVersao);
     }
 
     // 🔹 CRIAR
@@ -87,13 +129,25 @@ public class TurmaController {
 
     // 🔹 ATUALIZAR
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar dados da turma (professor, capacidade, período)")
-    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody TurmaDTO dto) {
+    @Operation(summary = "Atualizar dados da turma (professor, capacidade, período)",
+            description = "Com If-Match (ETag do GET) só altera se a turma ainda estiver nessa versão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Turma atualizada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Turma não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Turma alterada por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
+    })
+    public ResponseEntity<?> atualizar(@PathVariable Long id, @RequestBody TurmaDTO dto,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            TurmaDTO atualizada = service.atualizar(id, dto);
-            return ResponseEntity.ok(atualizada);
+            TurmaDTO atualizada = service.atualizar(id, dto, RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizada, atualizada.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
@@ -112,4 +166,51 @@ public class TurmaController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
         }
     }
+
+    // 🔹 ABRIR PERÍODO (COPIA TURMAS E AVALIAÇÕES DE OUTRO PERÍODO)
+    @PostMapping("/rollover")
+    @Operation(summary = "Abrir um período copiando as turmas e avaliações de outro",
+            description = "Com 'simular' = true responde na hora quantas turmas e avaliações seriam copiadas. "
+                    + "Sem simulação a cópia roda em segundo plano e a situação é consultada em /rollover/{id}. "
+                    + "Turmas que já existem no destino (mesma disciplina) são mantidas, e só recebem "
+                    + "avaliações as turmas de destino que ainda não têm nenhuma.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Prévia calculada (simulação)",
+                    content = @Content(schema = @Schema(implementation = RolloverJobDTO.class))),
+            @ApiResponse(responseCode = "202", description = "Cópia enfileirada",
+                    content = @Content(schema = @Schema(implementation = RolloverJobDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Períodos inválidos ou origem sem turmas"),
+            @ApiResponse(responseCode = "503", description = "Fila de aberturas cheia")
+    })
+    public ResponseEntity<?> abrirPeriodo(@RequestBody RolloverPeriodoDTO dto) {
+        try {
+            if (dto.isSimular()) {
+                return ResponseEntity.ok(rolloverService.simular(dto));
+            }
+            RolloverJobDTO job = rolloverService.iniciar(dto);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/turmas/rollover/" + job.getId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    // 🔹 SITUAÇÃO DA ABERTURA DE PERÍODO
+    @GetMapping("/rollover/{jobId}")
+    @Operation(summary = "Consultar a situação de uma abertura de período")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação do job",
+                    content = @Content(schema = @Schema(implementation = RolloverJobDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Job não encontrado ou expirado")
+    })
+    public ResponseEntity<?> situacaoAbertura(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(rolloverService.buscar(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("erro", e.getMessage()));
+        }
+    }
 }
@@ -2,6 +2,7 @@ package com.faculdade.sgca.presentation.controller;
 
 import com.faculdade.sgca.application.dto.UsuarioDTO;
 import com.faculdade.sgca.application.service.UsuarioService;
+import com.faculdade.sgca.application.service.VersaoDivergenteException;
 import com.faculdade.sgca.domain.model.PerfilUsuario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,10 +12,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -30,9 +31,21 @@ public class UsuarioController {
     // LISTAR TODOS
     // ========================
     @GetMapping
-    @Operation(summary = "Listar todos os usuários (somente ADMIN)")
-    public ResponseEntity<List<UsuarioDTO>> listar() {
-        return ResponseEntity.ok(service.listarTodos());
+    @Operation(summary = "Listar usuários em páginas (somente ADMIN)",
+            description = "Página por keyset (ordem de id) com o cursor da próxima página. Sem 'after' responde "
+                    + "a primeira página; 'limit' vale 50 por padrão e no máximo 500.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página retornada"),
+            @ApiResponse(responseCode = "304", description = "Página inalterada (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido")
+    })
+    public ResponseEntity<?> listar(@RequestParam(required = false) String after,
+                                    @RequestParam(required = false) Integer limit) {
+        try {
+            return RespostaCondicional.pagina(service.listarPagina(after, limit), UsuarioDTO::getId, UsuarioDTO::getVersao);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     // ========================
@@ -43,11 +56,13 @@ public class UsuarioController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Usuário encontrado",
                     content = @Content(schema = @Schema(implementation = UsuarioDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Usuário inalterado (If-None-Match)"),
             @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
     })
     public ResponseEntity<?> buscar(@PathVariable Long id) {
         try {
-            return ResponseEntity.ok(service.buscarPorId(id));
+            UsuarioDTO usuario = service.buscarPorId(id);
+            return RespostaCondicional.registro(usuario, usuario.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
@@ -58,10 +73,19 @@ public class UsuarioController {
     // ATUALIZAR
     // ========================
     @PutMapping("/{id}")
-    @Operation(summary = "Atualizar dados do usuário (ADMIN)")
+    @Operation(summary = "Atualizar dados do usuário (ADMIN)",
+            description = "Com If-Match (ETag do GET) só altera se o usuário ainda estiver nessa versão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Usuário atualizado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Senhas diferentes ou perfil inválido"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Usuário alterado por outra requisição ao mesmo tempo"),
+            @ApiResponse(responseCode = "412", description = "Versão do If-Match desatualizada")
+    })
     public ResponseEntity<?> atualizar(
             @PathVariable Long id,
-            @RequestBody Map<String, String> body) {
+            @RequestBody Map<String, String> body,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         String nome = body.get("nome");
         String email = body.get("email");
@@ -84,11 +108,16 @@ public class UsuarioController {
         }
 
         try {
-            UsuarioDTO atualizado = service.atualizar(id, nome, email, senha, perfil);
-            return ResponseEntity.ok(atualizado);
+            UsuarioDTO atualizado = service.atualizar(id, nome, email, senha, perfil,
+                    RespostaCondicional.versaoEsperada(ifMatch));
+            return RespostaCondicional.registro(atualizado, atualizado.getVersao());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("erro", e.getMessage()));
+        } catch (VersaoDivergenteException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return RespostaCondicional.versaoDivergente(ifMatch, RespostaCondicional.ALTERACAO_CONCORRENTE);
         }
     }
 
@@ -0,0 +1,47 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.NotaDTO;
+import com.faculdade.sgca.infrastructure.repository.MatriculaRepository;
+import com.faculdade.sgca.infrastructure.repository.NotaRepository;
+import com.faculdade.sgca.infrastructure.repository.PresencaRepository;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bytes exatos da exportação em NDJSON: um objeto por linha, sem separador
+ * entre uma linha e outra além do '\n'. Não precisa de banco.
+ */
+class ExportacaoServiceTest {
+
+    @Test
+    void ndjsonSaiComUmObjetoPorLinhaSemEspacos() throws Exception {
+        NotaRepository notaRepository = mock(NotaRepository.class);
+        when(notaRepository.streamParaExportacao(7L, null)).thenReturn(Stream.of(
+                new NotaDTO(1L, 10L, 100L, 7.5, LocalDateTime.of(2026, 3, 1, 10, 0), 0L),
+                new NotaDTO(2L, 10L, 101L, 9.0, LocalDateTime.of(2026, 3, 2, 11, 30), 1L)));
+        ExportacaoService service = new ExportacaoService(notaRepository,
+                mock(PresencaRepository.class), mock(MatriculaRepository.class),
+                // como o mapper do Spring Boot: datas em ISO-8601
+                Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+                new MappingJackson2CborHttpMessageConverter(), new MappingJackson2SmileHttpMessageConverter());
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        service.exportarNotas(7L, null, FormatoExportacao.NDJSON, saida);
+
+        assertThat(saida.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":1,\"avaliacaoId\":10,\"matriculaId\":100,\"valor\":7.5,\"data\":\"2026-03-01T10:00:00\",\"versao\":0}\n"
+                        + "{\"id\":2,\"avaliacaoId\":10,\"matriculaId\":101,\"valor\":9.0,\"data\":\"2026-03-02T11:30:00\",\"versao\":1}\n");
+    }
+}
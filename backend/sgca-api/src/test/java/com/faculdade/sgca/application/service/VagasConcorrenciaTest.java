@@ -0,0 +1,266 @@
+package com.faculdade.sgca.application.service;
+
+import com.faculdade.sgca.application.dto.ListaEsperaDTO;
+import com.faculdade.sgca.application.dto.MatriculaDTO;
+import com.faculdade.sgca.domain.model.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Corrida de matrículas numa turma com poucas vagas: centenas de pedidos
+ * simultâneos, cada um na sua transação. Nenhuma matrícula pode passar da
+ * capacidade, e enquanto a corrida acontece as únicas esperas por trava no
+ * banco devem ser pela linha da turma (nunca trava de tabela).
+ * Precisa do PostgreSQL; os dados são confirmados e apagados no fim.
+ */
+// promoção agendada desligada: o teste da lista de espera chama a promoção direto
+@SpringBootTest(properties = {
+        "sgca.lista-espera.intervalo-ms=3600000",
+        "sgca.lista-espera.varredura-ms=3600000"
+})
+class VagasConcorrenciaTest {
+
+    private static final int CAPACIDADE = 50;
+    private static final int PEDIDOS = 400;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private MatriculaService matriculaService;
+
+    @Autowired
+    private ListaEsperaService listaEsperaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transacao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long cursoId;
+    private Long disciplinaId;
+    private Long turmaId;
+    private final List<Long> alunoIds = new ArrayList<>();
+
+    @BeforeEach
+    void popularBanco() {
+        String sufixo = Long.toString(System.nanoTime(), 36);
+        transacao.executeWithoutResult(s -> {
+            Curso curso = new Curso();
+            curso.setCodigo("V" + sufixo);
+            curso.setNome("Curso concorrência");
+            curso.setCargaHoraria(3000);
+            entityManager.persist(curso);
+            cursoId = curso.getId();
+
+            Disciplina disciplina = new Disciplina();
+            disciplina.setCodigo("V" + sufixo);
+            disciplina.setNome("Disciplina concorrência");
+            disciplina.setCargaHoraria(60);
+            disciplina.setCurso(curso);
+            entityManager.persist(disciplina);
+            disciplinaId = disciplina.getId();
+
+            Turma turma = new Turma();
+            turma.setDisciplina(disciplina);
+            turma.setPeriodo("2099.1");
+            turma.setCapacidade(CAPACIDADE);
+            entityManager.persist(turma);
+            turmaId = turma.getId();
+
+            for (int i = 0; i < PEDIDOS; i++) {
+                Aluno aluno = new Aluno();
+                aluno.setNome("Aluno " + i);
+                aluno.setEmail("vaga" + i + "." + sufixo + "@teste.com");
+                entityManager.persist(aluno);
+                alunoIds.add(aluno.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void limparBanco() {
+        jdbcTemplate.update("DELETE FROM lista_espera WHERE turma_id = ?", turmaId);
+        jdbcTemplate.update("DELETE FROM matricula WHERE turma_id = ?", turmaId);
+        jdbcTemplate.update("DELETE FROM turma WHERE id = ?", turmaId);
+        jdbcTemplate.update("DELETE FROM disciplina WHERE id = ?", disciplinaId);
+        jdbcTemplate.update("DELETE FROM curso WHERE id = ?", cursoId);
+        for (Long alunoId : alunoIds) {
+            jdbcTemplate.update("DELETE FROM aluno WHERE id = ?", alunoId);
+        }
+    }
+
+    @Test
+    void corridaDeMatriculasNaoPassaDaCapacidade() throws Exception {
+        AtomicInteger aceitas = new AtomicInteger();
+        AtomicInteger lotadas = new AtomicInteger();
+        List<Throwable> inesperadas = new CopyOnWriteArrayList<>();
+
+        // amostra as travas que ficaram esperando enquanto a corrida acontece
+        AtomicBoolean correndo = new AtomicBoolean(true);
+        List<Map<String, Object>> esperas = new CopyOnWriteArrayList<>();
+        Set<String> modosNaTurma = ConcurrentHashMap.newKeySet();
+        Thread amostrador = new Thread(() -> {
+            while (correndo.get()) {
+                esperas.addAll(jdbcTemplate.queryForList("""
+                        SELECT locktype, relation::regclass::text AS relacao, mode
+                        FROM pg_locks WHERE NOT granted
+                        """));
+                modosNaTurma.addAll(jdbcTemplate.queryForList("""
+                        SELECT mode FROM pg_locks
+                        WHERE locktype = 'relation' AND relation = 'turma'::regclass
+                        """, String.class));
+            }
+        });
+        amostrador.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> pedidos = new ArrayList<>(PEDIDOS);
+        for (Long alunoId : alunoIds) {
+            pedidos.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    MatriculaDTO dto = new MatriculaDTO();
+                    dto.setAlunoId(alunoId);
+                    dto.setTurmaId(turmaId);
+                    dto.setSituacao("ATIVA");
+                    matriculaService.criar(dto);
+                    aceitas.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    lotadas.incrementAndGet();
+                } catch (RuntimeException e) {
+                    inesperadas.add(e);
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> pedido : pedidos) {
+            pedido.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        correndo.set(false);
+        amostrador.join();
+
+        assertThat(inesperadas).isEmpty();
+        assertThat(aceitas.get()).isEqualTo(CAPACIDADE);
+        assertThat(lotadas.get()).isEqualTo(PEDIDOS - CAPACIDADE);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM matricula WHERE turma_id = ? AND situacao = 'ATIVA'", Integer.class, turmaId))
+                .isEqualTo(CAPACIDADE);
+        assertThat(vagas()).isZero();
+
+        // só espera por linha: pela transação que segura a turma (transactionid) ou pela tupla da turma
+        assertThat(esperas).allSatisfy(espera -> {
+            assertThat(espera.get("locktype")).isIn("transactionid", "tuple");
+            if (espera.get("relacao") != null) {
+                assertThat(espera.get("relacao")).isEqualTo("turma");
+            }
+        });
+        assertThat(modosNaTurma).isSubsetOf("AccessShareLock", "RowShareLock", "RowExclusiveLock");
+    }
+
+    @Test
+    void exclusaoESituacaoDevolvemAVaga() {
+        List<Long> matriculas = new ArrayList<>();
+        for (Long alunoId : alunoIds.subList(0, CAPACIDADE)) {
+            MatriculaDTO dto = new MatriculaDTO();
+            dto.setAlunoId(alunoId);
+            dto.setTurmaId(turmaId);
+            dto.setSituacao("ATIVA");
+            matriculas.add(matriculaService.criar(dto).getId());
+        }
+        assertThat(vagas()).isZero();
+
+        matriculaService.excluir(matriculas.get(0));
+        assertThat(vagas()).isEqualTo(1);
+
+        matriculaService.atualizarSituacao(matriculas.get(1), "TRANCADA", null);
+        assertThat(vagas()).isEqualTo(2);
+
+        matriculaService.atualizarSituacao(matriculas.get(1), "ATIVA", null);
+        assertThat(vagas()).isEqualTo(1);
+    }
+
+    @Test
+    void vagasLiberadasPromovemAListaDeEsperaEmOrdem() {
+        List<Long> matriculas = new ArrayList<>();
+        for (Long alunoId : alunoIds.subList(0, CAPACIDADE)) {
+            MatriculaDTO dto = new MatriculaDTO();
+            dto.setAlunoId(alunoId);
+            dto.setTurmaId(turmaId);
+            dto.setSituacao("ATIVA");
+            matriculas.add(matriculaService.criar(dto).getId());
+        }
+        List<ListaEsperaDTO> fila = new ArrayList<>();
+        for (Long alunoId : alunoIds.subList(CAPACIDADE, CAPACIDADE + 3)) {
+            fila.add(listaEsperaService.entrar(alunoId, turmaId));
+        }
+        assertThat(fila).extracting(ListaEsperaDTO::getPosicao).containsExactly(1L, 2L, 3L);
+        // repetir o pedido não muda o lugar na fila
+        assertThat(listaEsperaService.entrar(fila.get(1).getAlunoId(), turmaId).getId()).isEqualTo(fila.get(1).getId());
+
+        matriculaService.excluir(matriculas.get(0));
+        matriculaService.atualizarSituacao(matriculas.get(1), "CANCELADA", null);
+        assertThat(listaEsperaService.promover(turmaId)).isEqualTo(2);
+
+        assertThat(vagas()).isZero();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT aluno_id FROM matricula WHERE turma_id = ? AND aluno_id IN (?, ?, ?)",
+                Long.class, turmaId, fila.get(0).getAlunoId(), fila.get(1).getAlunoId(), fila.get(2).getAlunoId()))
+                .containsExactlyInAnyOrder(fila.get(0).getAlunoId(), fila.get(1).getAlunoId());
+        assertThat(listaEsperaService.buscarPorId(fila.get(2).getId()).getPosicao()).isEqualTo(1L);
+    }
+
+    @Test
+    void alunoJaMatriculadoNaFilaNaoInterrompeAPromocao() {
+        for (Long alunoId : alunoIds.subList(0, CAPACIDADE - 1)) {
+            MatriculaDTO dto = new MatriculaDTO();
+            dto.setAlunoId(alunoId);
+            dto.setTurmaId(turmaId);
+            dto.setSituacao("ATIVA");
+            matriculaService.criar(dto);
+        }
+        List<ListaEsperaDTO> fila = new ArrayList<>();
+        for (Long alunoId : alunoIds.subList(CAPACIDADE, CAPACIDADE + 3)) {
+            fila.add(listaEsperaService.entrar(alunoId, turmaId));
+        }
+        // os dois primeiros da fila ganham matrícula por fora (sem passar pelo contador de vagas)
+        for (ListaEsperaDTO entrada : fila.subList(0, 2)) {
+            jdbcTemplate.update("""
+                    INSERT INTO matricula (id, versao, aluno_id, turma_id, data, situacao)
+                    VALUES (nextval('matricula_id_seq'), 0, ?, ?, current_date, 'ATIVA')
+                    """, entrada.getAlunoId(), turmaId);
+        }
+        assertThat(vagas()).isEqualTo(1);
+
+        // cada lote de uma vaga só pega um já matriculado: a fila tem que andar até o terceiro
+        assertThat(listaEsperaService.promover(turmaId)).isEqualTo(1);
+
+        assertThat(vagas()).isZero();
+        assertThat(listaEsperaService.listarPorTurma(turmaId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM matricula WHERE turma_id = ? AND aluno_id = ?",
+                Long.class, turmaId, fila.get(2).getAlunoId())).isEqualTo(1L);
+    }
+
+    private Integer vagas() {
+        return jdbcTemplate.queryForObject("SELECT vagas_disponiveis FROM turma WHERE id = ?", Integer.class, turmaId);
+    }
+}
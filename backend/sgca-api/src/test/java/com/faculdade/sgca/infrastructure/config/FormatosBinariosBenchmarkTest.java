@@ -0,0 +1,102 @@
+package com.faculdade.sgca.infrastructure.config;
+
+import com.faculdade.sgca.application.dto.MatriculaDTO;
+import com.faculdade.sgca.application.dto.NotaDTO;
+import com.faculdade.sgca.application.dto.PresencaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara tamanho do payload e tempo de codificação de uma lista grande em
+ * JSON, CBOR e Smile, com os mesmos mappers que {@link FormatosBinariosConfig}
+ * entrega aos conversores HTTP. Não precisa de banco, mas só roda com
+ * {@code -Dsgca.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "sgca.benchmark", matches = "true")
+class FormatosBinariosBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FormatosBinariosBenchmarkTest.class);
+
+    private static final int LINHAS = 10_000;
+    private static final int AQUECIMENTO = 20;
+    private static final int RODADAS = 50;
+
+    private final FormatosBinariosConfig config = new FormatosBinariosConfig();
+
+    @Test
+    void notas() throws IOException {
+        LocalDateTime agora = LocalDateTime.of(2025, 3, 10, 14, 30);
+        comparar("notas", i -> new NotaDTO((long) i, 1L + i % 4, 100L + i / 4, (i % 101) / 10.0,
+                agora.plusMinutes(i), 0L));
+    }
+
+    @Test
+    void presencas() throws IOException {
+        LocalDate inicio = LocalDate.of(2025, 2, 3);
+        comparar("presencas", i -> new PresencaDTO((long) i, 7L, 100L + i % 40, inicio.plusDays(i / 40),
+                i % 9 != 0, 0L));
+    }
+
+    @Test
+    void matriculas() throws IOException {
+        LocalDate data = LocalDate.of(2025, 1, 20);
+        comparar("matriculas", i -> new MatriculaDTO((long) i, 5_000L + i, 1L + i % 30, data, "ATIVA", 0L));
+    }
+
+    private void comparar(String recurso, IntFunction<Object> linha) throws IOException {
+        List<Object> lista = new ArrayList<>(LINHAS);
+        for (int i = 1; i <= LINHAS; i++) {
+            lista.add(linha.apply(i));
+        }
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", builder().build());
+        mappers.put("cbor", config.conversorCbor(builder()).getObjectMapper());
+        mappers.put("smile", config.conversorSmile(builder()).getObjectMapper());
+
+        Map<String, Integer> tamanhos = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> formato : mappers.entrySet()) {
+            ObjectMapper mapper = formato.getValue();
+            for (int i = 0; i < AQUECIMENTO; i++) {
+                mapper.writeValueAsBytes(lista);
+            }
+
+            byte[] bytes = null;
+            long inicio = System.nanoTime();
+            for (int i = 0; i < RODADAS; i++) {
+                bytes = mapper.writeValueAsBytes(lista);
+            }
+            double microsPorLista = (System.nanoTime() - inicio) / 1e3 / RODADAS;
+
+            assertThat(mapper.readValue(bytes, List.class)).hasSize(LINHAS);
+            tamanhos.put(formato.getKey(), bytes.length);
+            log.info("[benchmark] {}/{}: {} linhas | {} bytes ({} por linha) | {} us por lista",
+                    recurso, formato.getKey(), LINHAS, bytes.length,
+                    String.format("%.1f", (double) bytes.length / LINHAS), Math.round(microsPorLista));
+        }
+
+        assertThat(tamanhos.get("cbor")).isLessThan(tamanhos.get("json"));
+        assertThat(tamanhos.get("smile")).isLessThan(tamanhos.get("json"));
+    }
+
+    // o mesmo ponto de partida do builder do Spring Boot para datas
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,221 @@
+package com.faculdade.sgca.infrastructure.repository;
+
+import com.faculdade.sgca.domain.avaliacao.impl.Prova;
+import com.faculdade.sgca.domain.model.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a vazão de inserção em massa de notas e presenças pelo mesmo
+ * caminho JPA ({@code saveAll} + flush), mudando só o envio ao banco:
+ * <ul>
+ *     <li><b>uma a uma</b>: lotes JDBC desligados na sessão ({@code setJdbcBatchSize(1)}),
+ *     um INSERT por ida ao banco, como o IDENTITY obrigava o Hibernate a fazer;</li>
+ *     <li><b>em lote</b>: ids da sequência pooled e {@code hibernate.jdbc.batch_size} da configuração.</li>
+ * </ul>
+ * O IDENTITY de antes ainda lia o id gerado a cada linha, então a versão uma a
+ * uma aqui é um limite otimista do que havia. Além da vazão, as estatísticas do
+ * Hibernate confirmam que o lote prepara uma fração dos statements.
+ * Precisa do PostgreSQL e só roda com {@code -Dsgca.benchmark=true}. Tudo é desfeito no rollback.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@EnabledIfSystemProperty(named = "sgca.benchmark", matches = "true")
+class InsercaoEmLoteBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InsercaoEmLoteBenchmarkTest.class);
+
+    private static final int MATRICULAS = 200;
+    private static final int RODADAS = 10; // avaliações (notas) ou datas (presenças) por cenário
+    private static final int LINHAS = MATRICULAS * RODADAS;
+    private static final int AQUECIMENTO = 1;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NotaRepository notaRepository;
+
+    @Autowired
+    private PresencaRepository presencaRepository;
+
+    private Statistics estatisticas;
+    private Long turmaId;
+    private final List<Long> matriculaIds = new ArrayList<>();
+
+    /**
+     * Resultado de um cenário: tempo de saveAll + flush e statements preparados.
+     */
+    private record Medicao(long nanos, long statements) {
+
+        double linhasPorSegundo() {
+            return LINHAS / (nanos / 1e9);
+        }
+    }
+
+    @BeforeEach
+    void popularTurma() {
+        String sufixo = Long.toString(System.nanoTime(), 36);
+
+        Curso curso = new Curso();
+        curso.setCodigo("B" + sufixo);
+        curso.setNome("Curso benchmark");
+        curso.setCargaHoraria(3000);
+        entityManager.persist(curso);
+
+        Disciplina disciplina = new Disciplina();
+        disciplina.setCodigo("B" + sufixo);
+        disciplina.setNome("Disciplina benchmark");
+        disciplina.setCargaHoraria(60);
+        disciplina.setCurso(curso);
+        entityManager.persist(disciplina);
+
+        Turma turma = new Turma();
+        turma.setDisciplina(disciplina);
+        turma.setPeriodo("2099.2");
+        turma.setCapacidade(MATRICULAS);
+        entityManager.persist(turma);
+        turmaId = turma.getId();
+
+        for (int i = 0; i < MATRICULAS; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            aluno.setEmail("bench" + i + "." + sufixo + "@teste.com");
+            entityManager.persist(aluno);
+
+            Matricula matricula = new Matricula();
+            matricula.setAluno(aluno);
+            matricula.setTurma(turma);
+            entityManager.persist(matricula);
+            matriculaIds.add(matricula.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void notas() {
+        int[] cenario = {0};
+        comparar("notas", () -> {
+            // uma avaliação nova por rodada, para não bater na unicidade (avaliação, matrícula)
+            List<Avaliacao> avaliacoes = new ArrayList<>();
+            for (int i = 0; i < RODADAS; i++) {
+                Avaliacao avaliacao = new Avaliacao("bench " + cenario[0] + "." + i, 1, "Prova", turmaId, new Prova());
+                entityManager.persist(avaliacao);
+                avaliacoes.add(avaliacao);
+            }
+            cenario[0]++;
+            entityManager.flush();
+
+            List<Nota> notas = new ArrayList<>(LINHAS);
+            for (Avaliacao avaliacao : avaliacoes) {
+                for (Long matriculaId : matriculaIds) {
+                    Nota nota = new Nota();
+                    nota.setAvaliacao(avaliacao);
+                    nota.setMatricula(entityManager.getReference(Matricula.class, matriculaId));
+                    nota.setValor(7.0);
+                    notas.add(nota);
+                }
+            }
+            return () -> notaRepository.saveAll(notas);
+        });
+    }
+
+    @Test
+    void presencas() {
+        int[] cenario = {0};
+        comparar("presencas", () -> {
+            // datas distintas por cenário, para não bater na unicidade (turma, matrícula, data)
+            LocalDate inicio = LocalDate.of(2099, 1, 1).plusDays(cenario[0]++ * RODADAS);
+            Turma turma = entityManager.getReference(Turma.class, turmaId);
+
+            List<Presenca> presencas = new ArrayList<>(LINHAS);
+            for (int dia = 0; dia < RODADAS; dia++) {
+                for (Long matriculaId : matriculaIds) {
+                    Presenca presenca = new Presenca();
+                    presenca.setTurma(turma);
+                    presenca.setMatricula(entityManager.getReference(Matricula.class, matriculaId));
+                    presenca.setDataAula(inicio.plusDays(dia));
+                    presenca.setPresente(true);
+                    presencas.add(presenca);
+                }
+            }
+            return () -> presencaRepository.saveAll(presencas);
+        });
+    }
+
+    // ============================================================
+    // 🔹 MEDIÇÃO
+    // ============================================================
+
+    /**
+     * Roda os dois cenários (com aquecimento) e compara. {@code preparar}
+     * monta as entidades fora da medição e devolve o saveAll a ser medido.
+     */
+    private void comparar(String entidade, Supplier<Runnable> preparar) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            medir(preparar, 1);
+            medir(preparar, null);
+        }
+        Medicao umaAUma = medir(preparar, 1);
+        Medicao emLote = medir(preparar, null);
+
+        log.info("[benchmark] {}: {} linhas | uma a uma {} linhas/s, {} statements | em lote {} linhas/s, "
+                        + "{} statements | {}x",
+                entidade, LINHAS,
+                Math.round(umaAUma.linhasPorSegundo()), umaAUma.statements(),
+                Math.round(emLote.linhasPorSegundo()), emLote.statements(),
+                String.format("%.1f", emLote.linhasPorSegundo() / umaAUma.linhasPorSegundo()));
+
+        // sem lote, um INSERT preparado por linha; com lote, um por lote de batch_size linhas
+        // (mais os nextval da sequência pooled, iguais nos dois cenários)
+        assertThat(umaAUma.statements()).isGreaterThanOrEqualTo(LINHAS);
+        assertThat(emLote.statements()).isLessThan(umaAUma.statements() / 10);
+        assertThat(emLote.linhasPorSegundo()).isGreaterThan(umaAUma.linhasPorSegundo());
+    }
+
+    /**
+     * @param tamanhoLote tamanho do lote JDBC na sessão; null volta ao da configuração
+     */
+    private Medicao medir(Supplier<Runnable> preparar, Integer tamanhoLote) {
+        Session sessao = entityManager.unwrap(Session.class);
+        Runnable gravar = preparar.get();
+        sessao.setJdbcBatchSize(tamanhoLote);
+        estatisticas.clear();
+        try {
+            long inicio = System.nanoTime();
+            gravar.run();
+            entityManager.flush();
+            long nanos = System.nanoTime() - inicio;
+            return new Medicao(nanos, estatisticas.getPrepareStatementCount());
+        } finally {
+            sessao.setJdbcBatchSize(null);
+            // o contexto não cresce de um cenário para o outro
+            entityManager.clear();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.faculdade.sgca.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hash PBKDF2 gravado com menos iterações que as calibradas deve continuar
+ * conferindo e pedir a regravação no próximo login, pelo mesmo caminho que o
+ * AuthController usa ({@link ExecutorHashSenha#precisaAtualizar}).
+ * Iterações baixas de propósito, para o teste ser rápido; não precisa de banco.
+ */
+class Pbkdf2ComIteracoesEncoderTest {
+
+    private static final String SENHA = "s3nh@-de-teste";
+
+    private final List<ExecutorHashSenha> executores = new ArrayList<>();
+
+    @AfterEach
+    void encerrar() {
+        executores.forEach(ExecutorHashSenha::encerrar);
+    }
+
+    @Test
+    void custoCalibradoMaiorPedeRegravacao() {
+        String hashAntigo = executor(1_000).codificar(SENHA);
+        assertThat(hashAntigo).startsWith("{pbkdf2}1000$");
+
+        ExecutorHashSenha recalibrado = executor(2_000);
+        assertThat(recalibrado.confere(SENHA, hashAntigo)).isTrue();
+        assertThat(recalibrado.precisaAtualizar(hashAntigo)).isTrue();
+
+        String hashNovo = recalibrado.codificar(SENHA);
+        assertThat(recalibrado.confere(SENHA, hashNovo)).isTrue();
+        assertThat(recalibrado.precisaAtualizar(hashNovo)).isFalse();
+    }
+
+    @Test
+    void custoIgualOuMenorNaoPedeRegravacao() {
+        String hash = executor(2_000).codificar(SENHA);
+
+        assertThat(executor(2_000).precisaAtualizar(hash)).isFalse();
+        assertThat(executor(1_000).precisaAtualizar(hash)).isFalse();
+        assertThat(executor(1_000).confere(SENHA, hash)).isTrue();
+        assertThat(executor(1_000).confere("outra", hash)).isFalse();
+    }
+
+    @Test
+    void hashSemIteracoesConfereEPedeRegravacao() {
+        String legado = "{pbkdf2}" + CalibradorSenha.pbkdf2(1_000).encode(SENHA);
+        ExecutorHashSenha executor = executor(1_000);
+
+        assertThat(executor.confere(SENHA, legado)).isTrue();
+        assertThat(executor.precisaAtualizar(legado)).isTrue();
+    }
+
+    // mesmo encoder delegante do SecurityConfig, com o PBKDF2 como algoritmo de gravação
+    private ExecutorHashSenha executor(int iteracoes) {
+        PasswordEncoder delegante = new DelegatingPasswordEncoder("pbkdf2",
+                Map.of("pbkdf2", new Pbkdf2ComIteracoesEncoder(iteracoes)));
+        ExecutorHashSenha executor = new ExecutorHashSenha(delegante, new SimpleMeterRegistry(), 1, 4, 5_000, 1);
+        executores.add(executor);
+        return executor;
+    }
+}
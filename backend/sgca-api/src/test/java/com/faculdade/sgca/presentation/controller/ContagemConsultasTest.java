@@ -0,0 +1,158 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.domain.avaliacao.impl.Prova;
+import com.faculdade.sgca.domain.model.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Garante que as listagens não voltaram a carregar o grafo de associações
+ * (N+1): cada endpoint deve executar um único SELECT, seja qual for o número de linhas.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class ContagemConsultasTest {
+
+    private static final int ALUNOS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+    private Long turmaId;
+
+    @BeforeEach
+    void popularBanco() {
+        String sufixo = Long.toString(System.nanoTime(), 36);
+
+        Curso curso = new Curso();
+        curso.setCodigo("C" + sufixo);
+        curso.setNome("Curso de teste");
+        curso.setCargaHoraria(3000);
+        entityManager.persist(curso);
+
+        Disciplina disciplina = new Disciplina();
+        disciplina.setCodigo("D" + sufixo);
+        disciplina.setNome("Disciplina de teste");
+        disciplina.setCargaHoraria(60);
+        disciplina.setCurso(curso);
+        entityManager.persist(disciplina);
+
+        Usuario professor = new Usuario();
+        professor.setNome("Professor de teste");
+        professor.setEmail("prof." + sufixo + "@teste.com");
+        professor.setSenha("hash");
+        professor.setPerfil(PerfilUsuario.PROFESSOR);
+        entityManager.persist(professor);
+
+        Turma turma = new Turma();
+        turma.setDisciplina(disciplina);
+        turma.setProfessor(professor);
+        turma.setPeriodo("2099.1");
+        turma.setCapacidade(40);
+        entityManager.persist(turma);
+        turmaId = turma.getId();
+
+        Avaliacao avaliacao = new Avaliacao("P1", 50, "Prova", turmaId, new Prova());
+        entityManager.persist(avaliacao);
+
+        for (int i = 0; i < ALUNOS; i++) {
+            Aluno aluno = new Aluno();
+            aluno.setNome("Aluno " + i);
+            aluno.setEmail("aluno" + i + "." + sufixo + "@teste.com");
+            aluno.setCpf(sufixo.substring(Math.max(0, sufixo.length() - 10)) + "-" + i);
+            entityManager.persist(aluno);
+
+            Matricula matricula = new Matricula();
+            matricula.setAluno(aluno);
+            matricula.setTurma(turma);
+            entityManager.persist(matricula);
+
+            Nota nota = new Nota();
+            nota.setAvaliacao(avaliacao);
+            nota.setMatricula(matricula);
+            nota.setValor(7.5);
+            entityManager.persist(nota);
+
+            Presenca presenca = new Presenca();
+            presenca.setTurma(turma);
+            presenca.setMatricula(matricula);
+            presenca.setDataAula(LocalDate.of(2099, 3, 1));
+            presenca.setPresente(true);
+            entityManager.persist(presenca);
+        }
+
+        // contexto vazio: cada requisição precisa ir ao banco como em produção
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void notasPorTurmaExecutaUmaConsulta() throws Exception {
+        assertarUmaConsulta("/api/v1/notas/turma/" + turmaId);
+    }
+
+    @Test
+    void matriculasPorTurmaExecutaUmaConsulta() throws Exception {
+        assertarUmaConsulta("/api/v1/matriculas/turma/" + turmaId);
+    }
+
+    @Test
+    void presencasPorTurmaExecutaUmaConsulta() throws Exception {
+        assertarUmaConsulta("/api/v1/presencas/turma/" + turmaId);
+    }
+
+    @Test
+    void listagensSemParametrosExecutamUmaConsulta() throws Exception {
+        assertarUmaConsulta("/api/v1/notas");
+        assertarUmaConsulta("/api/v1/matriculas");
+        assertarUmaConsulta("/api/v1/presencas");
+        assertarUmaConsulta("/api/v1/turmas");
+        assertarUmaConsulta("/api/v1/disciplinas");
+    }
+
+    @Test
+    void listagensPaginadasExecutamUmaConsulta() throws Exception {
+        assertarUmaConsulta("/api/v1/notas?limit=2");
+        assertarUmaConsulta("/api/v1/matriculas?limit=2");
+        assertarUmaConsulta("/api/v1/presencas?limit=2");
+    }
+
+    private void assertarUmaConsulta(String url) throws Exception {
+        entityManager.clear();
+        estatisticas.clear();
+
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+
+        assertThat(estatisticas.getPrepareStatementCount())
+                .as("SELECTs executados em GET %s", url)
+                .isEqualTo(1);
+    }
+}
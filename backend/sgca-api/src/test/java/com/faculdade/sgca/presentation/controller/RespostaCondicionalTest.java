@@ -0,0 +1,98 @@
+package com.faculdade.sgca.presentation.controller;
+
+import com.faculdade.sgca.application.dto.PaginaCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cada formato (JSON, CBOR, Smile) tem o seu ETag forte, e o If-Match aceita
+ * a versão vinda de qualquer um deles. Não precisa de banco.
+ */
+class RespostaCondicionalTest {
+
+    @AfterEach
+    void limparRequisicao() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void etagDoRegistroMudaComOFormato() {
+        assertThat(etagRegistro(null)).isEqualTo("\"5\"");
+        assertThat(etagRegistro("application/json")).isEqualTo("\"5\"");
+        assertThat(etagRegistro("*/*")).isEqualTo("\"5\"");
+        assertThat(etagRegistro("application/cbor")).isEqualTo("\"5-cbor\"");
+        assertThat(etagRegistro("application/x-jackson-smile")).isEqualTo("\"5-smile\"");
+    }
+
+    @Test
+    void etagDaPaginaMudaComOFormato() {
+        PaginaCursor<Long> pagina = new PaginaCursor<>(List.of(1L, 2L), null, 50);
+
+        String json = etagPagina(pagina, "application/json");
+        String cbor = etagPagina(pagina, "application/cbor");
+        String smile = etagPagina(pagina, "application/x-jackson-smile");
+
+        assertThat(json).startsWith("\"l-").doesNotContain("-cbor").doesNotContain("-smile");
+        assertThat(cbor).isEqualTo(json.substring(0, json.length() - 1) + "-cbor\"");
+        assertThat(smile).isEqualTo(json.substring(0, json.length() - 1) + "-smile\"");
+    }
+
+    @Test
+    void etagDaPaginaMudaComOCursorEOLimite() {
+        // última página cheia: entra uma linha depois dela e só o cursor muda
+        PaginaCursor<Long> ultima = new PaginaCursor<>(List.of(1L, 2L), null, 2);
+        PaginaCursor<Long> comProxima = new PaginaCursor<>(List.of(1L, 2L), "djE6Mg", 2);
+        PaginaCursor<Long> outroLimite = new PaginaCursor<>(List.of(1L, 2L), null, 50);
+
+        String etag = etagPagina(ultima, "application/json");
+
+        assertThat(etagPagina(comProxima, "application/json")).isNotEqualTo(etag);
+        assertThat(etagPagina(outroLimite, "application/json")).isNotEqualTo(etag);
+        assertThat(etagPagina(new PaginaCursor<>(List.of(1L, 2L), null, 2), "application/json")).isEqualTo(etag);
+    }
+
+    @Test
+    void formatoSegueAQualidadeDoAccept() {
+        assertThat(etagRegistro("application/cbor;q=0.5, application/json")).isEqualTo("\"5\"");
+        assertThat(etagRegistro("*/*;q=0.8, application/cbor")).isEqualTo("\"5-cbor\"");
+        assertThat(etagRegistro("*/*, application/x-jackson-smile")).isEqualTo("\"5-smile\"");
+        assertThat(etagRegistro("application/json, application/cbor")).isEqualTo("\"5\"");
+    }
+
+    @Test
+    void ifMatchAceitaAVersaoDeQualquerFormato() {
+        assertThat(RespostaCondicional.versaoEsperada("\"5\"")).isEqualTo(5L);
+        assertThat(RespostaCondicional.versaoEsperada("\"5-cbor\"")).isEqualTo(5L);
+        assertThat(RespostaCondicional.versaoEsperada("\"5-smile\"")).isEqualTo(5L);
+        assertThat(RespostaCondicional.versaoEsperada("\"5-xml\"")).isEqualTo(-1L);
+        assertThat(RespostaCondicional.versaoEsperada("W/\"5\"")).isEqualTo(-1L);
+        assertThat(RespostaCondicional.versaoEsperada("*")).isNull();
+    }
+
+    private static String etagRegistro(String accept) {
+        requisicao(accept);
+        return RespostaCondicional.registro("corpo", 5L).getHeaders().getETag();
+    }
+
+    private static String etagPagina(PaginaCursor<Long> pagina, String accept) {
+        requisicao(accept);
+        return RespostaCondicional.pagina(pagina, Function.identity(), id -> 0L).getHeaders().getETag();
+    }
+
+    private static void requisicao(String accept) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/qualquer");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
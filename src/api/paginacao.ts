@@ -0,0 +1,23 @@
+import api from "./api";
+
+// Formato das listagens paginadas do backend (keyset por id)
+export interface PaginaCursor<T> {
+  itens: T[];
+  proximoCursor: string | null;
+  limite: number;
+}
+
+// As listagens respondem uma página por vez; as telas que mostram a lista
+// inteira seguem o cursor até a última página. Devolve no formato { data }
+// do axios para as telas continuarem lendo resp.data.
+export async function listarTodasPaginas<T>(url: string, limite = 500): Promise<{ data: T[] }> {
+  const itens: T[] = [];
+  let after: string | null = null;
+  do {
+    const params: Record<string, string | number> = after ? { limit: limite, after } : { limit: limite };
+    const resp = await api.get<PaginaCursor<T>>(url, { params });
+    itens.push(...(resp.data?.itens ?? []));
+    after = resp.data?.proximoCursor ?? null;
+  } while (after);
+  return { data: itens };
+}
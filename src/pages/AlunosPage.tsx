@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import axios, { AxiosError } from "axios";
 import { Aluno, StatusAluno } from "../types/Aluno";
 
@@ -98,7 +99,7 @@ export default function AlunosPage() {
       setCarregando(true);
       setErro(null);
 
-      const resp = await api.get<Aluno[]>("/alunos");
+      const resp = await listarTodasPaginas<Aluno>("/alunos");
       const data = Array.isArray(resp.data) ? resp.data : [];
       setAlunos(data);
     } catch (err) {
@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Avaliacao } from "../types/Avaliacao";
 import axios, { AxiosError } from "axios";
 
@@ -72,7 +73,7 @@ export default function AvaliacaoPage() {
 
   async function carregar(): Promise<void> {
     try {
-      const resp = await api.get<Avaliacao[]>("/avaliacoes");
+      const resp = await listarTodasPaginas<Avaliacao>("/avaliacoes");
       // se 204 noContent: resp.data pode estar vazio/undefined.
       // axios ainda dá data = ""? melhor garantir array.
       const data = Array.isArray(resp.data) ? resp.data : [];
@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Curso } from "../types/Curso";
 import axios, { AxiosError } from "axios";
 
@@ -95,7 +96,7 @@ export default function CursosPage() {
 
       // backend: @GetMapping em CursoController
       // ResponseEntity<List<CursoDTO>> listarTodos()
-      const resp = await api.get<Curso[]>("/cursos");
+      const resp = await listarTodasPaginas<Curso>("/cursos");
 
       const data = Array.isArray(resp.data) ? resp.data : [];
       setCursos(data);
@@ -1,9 +1,7 @@
 import { useEffect, useState } from "react";
 import Navbar from "../components/Navbar";
 import api from "../api/api";
-import { Aluno } from "../types/Aluno";
-import { Curso } from "../types/Curso";
-import { Turma } from "../types/Turma";
+import { DashboardResumo } from "../types/Dashboard";
 import axios, { AxiosError } from "axios";
 
 interface ApiError {
@@ -28,22 +26,12 @@ export default function DashboardPage() {
   useEffect(() => {
     async function carregarResumo(): Promise<void> {
       try {
-        const [alunosRes, cursosRes, turmasRes] = await Promise.all([
-          api.get<Aluno[]>("/alunos").catch((e) => e),
-          api.get<Curso[]>("/cursos").catch((e) => e),
-          api.get<Turma[]>("/turmas").catch((e) => e)
-        ]);
-
-        const safeLen = <T,>(respOrErr: unknown): number => {
-          if (axios.isAxiosError(respOrErr)) return 0;
-          const ok = respOrErr as { data: T[] };
-          return Array.isArray(ok.data) ? ok.data.length : 0;
-        };
+        const { data } = await api.get<DashboardResumo>("/dashboard/resumo");
 
         setStats({
-          totalAlunos: safeLen<Aluno>(alunosRes),
-          totalCursos: safeLen<Curso>(cursosRes),
-          totalTurmas: safeLen<Turma>(turmasRes)
+          totalAlunos: data.totais.alunos ?? 0,
+          totalCursos: data.totais.cursos ?? 0,
+          totalTurmas: data.totais.turmas ?? 0
         });
       } catch (err) {
         if (axios.isAxiosError(err)) {
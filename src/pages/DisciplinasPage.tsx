@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Disciplina } from "../types/Disciplina";
 import axios, { AxiosError } from "axios";
 
@@ -71,7 +72,7 @@ export default function DisciplinasPage() {
 
   async function carregar(): Promise<void> {
     try {
-      const resp = await api.get<Disciplina[]>("/disciplinas");
+      const resp = await listarTodasPaginas<Disciplina>("/disciplinas");
       setDisciplinas(resp.data);
     } catch (err) {
       if (axios.isAxiosError(err)) {
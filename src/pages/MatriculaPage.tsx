@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import axios, { AxiosError } from "axios";
 
 import { Matricula, MatriculaView } from "../types/Matricula";
@@ -108,7 +109,7 @@ export default function MatriculasPage() {
       setCarregando(true);
 
       // pega as matrículas cruas
-      const resp = await api.get<Matricula[]>("/matriculas");
+      const resp = await listarTodasPaginas<Matricula>("/matriculas");
       const base = Array.isArray(resp.data) ? resp.data : [];
 
       // precisamos enriquecer cada item com alunoNome e turmaPeriodo
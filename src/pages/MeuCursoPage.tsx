@@ -1,6 +1,6 @@
 import { useEffect, useState } from "react";
 import Navbar from "../components/Navbar";
-import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Curso } from "../types/Curso";
 import axios, { AxiosError } from "axios";
 import { useAuth } from "../auth/AuthContext";
@@ -20,7 +20,7 @@ export default function MeuCursoPage() {
         // TODO: descobrir qual curso o aluno está
         // Exemplo futuro: GET /alunos/{idAluno}/curso
         // Por enquanto, só pega lista e escolhe o primeiro como mock
-        const resp = await api.get<Curso[]>("/cursos");
+        const resp = await listarTodasPaginas<Curso>("/cursos");
         const lista = resp.data;
         setCurso(lista.length > 0 ? lista[0] : null);
       } catch (err) {
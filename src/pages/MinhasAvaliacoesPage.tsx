@@ -1,6 +1,6 @@
 import { useEffect, useState } from "react";
 import Navbar from "../components/Navbar";
-import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Avaliacao } from "../types/Avaliacao";
 import axios, { AxiosError } from "axios";
 import { useAuth } from "../auth/AuthContext";
@@ -18,7 +18,7 @@ export default function MinhasAvaliacoesPage() {
     async function carregar(): Promise<void> {
       try {
         // TODO: idealmente filtrar por turmas em que o aluno está matriculado
-        const resp = await api.get<Avaliacao[]>("/avaliacoes");
+        const resp = await listarTodasPaginas<Avaliacao>("/avaliacoes");
         const data = Array.isArray(resp.data) ? resp.data : [];
         setAvaliacoes(data);
       } catch (err) {
@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import Navbar from "../components/Navbar";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Disciplina } from "../types/Disciplina";
 import axios, { AxiosError } from "axios";
 import { useAuth } from "../auth/AuthContext";
@@ -19,7 +20,7 @@ export default function MinhasDisciplinasPage() {
       try {
         // TODO: substituir pelo ID real do curso do aluno logado
         // ex: const resp = await api.get<Disciplina[]>(`/disciplinas/curso/${cursoIdDoAluno}`);
-        const resp = await api.get<Disciplina[]>("/disciplinas");
+        const resp = await listarTodasPaginas<Disciplina>("/disciplinas");
         setDisciplinas(resp.data);
       } catch (err) {
         if (axios.isAxiosError(err)) {
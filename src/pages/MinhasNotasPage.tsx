@@ -1,7 +1,7 @@
 import { useEffect, useState } from "react";
 import Navbar from "../components/Navbar";
 import api from "../api/api";
-import { Nota } from "../types/Nota";
+import { Boletim, BoletimMatricula } from "../types/Boletim";
 import axios, { AxiosError } from "axios";
 import { useAuth } from "../auth/AuthContext";
 
@@ -11,17 +11,14 @@ interface ApiError {
 
 export default function MinhasNotasPage() {
   const { user } = useAuth();
-  const [notas, setNotas] = useState<Nota[]>([]);
+  const [matriculas, setMatriculas] = useState<BoletimMatricula[]>([]);
   const [erro, setErro] = useState<string | null>(null);
 
   useEffect(() => {
     async function carregar(): Promise<void> {
       try {
-        // TODO: substituir matriculaId pelo dado real do usuário logado
-        // Exemplo futuro:
-        // const resp = await api.get<Nota[]>(`/notas/matricula/${minhaMatriculaId}`);
-        const resp = await api.get<Nota[]>("/notas"); // fallback até ter endpoint específico
-        setNotas(resp.data);
+        const resp = await api.get<Boletim>("/me/boletim");
+        setMatriculas(resp.data.matriculas);
       } catch (err) {
         if (axios.isAxiosError(err)) {
           const e = err as AxiosError<ApiError>;
@@ -59,26 +56,39 @@ export default function MinhasNotasPage() {
           <table className="min-w-full text-left">
             <thead className="text-slate-500 font-medium border-b text-xs uppercase">
               <tr>
+                <th className="py-2 pr-4">Disciplina</th>
+                <th className="py-2 pr-4">Período</th>
                 <th className="py-2 pr-4">Avaliação</th>
-                <th className="py-2 pr-4">Matrícula</th>
+                <th className="py-2 pr-4">Peso</th>
                 <th className="py-2 pr-4">Valor</th>
                 <th className="py-2 pr-4">Data</th>
               </tr>
             </thead>
             <tbody className="text-slate-700">
-              {notas.map((n) => (
-                <tr key={n.id} className="border-b last:border-none">
-                  <td className="py-2 pr-4">{n.avaliacaoId}</td>
-                  <td className="py-2 pr-4">{n.matriculaId}</td>
-                  <td className="py-2 pr-4 font-medium">{n.valor}</td>
-                  <td className="py-2 pr-4">{n.data}</td>
-                </tr>
-              ))}
+              {matriculas.flatMap((m) => [
+                ...m.notas.map((n) => (
+                  <tr key={`${m.matriculaId}-${n.avaliacaoId}`} className="border-b">
+                    <td className="py-2 pr-4">{m.disciplina}</td>
+                    <td className="py-2 pr-4">{m.periodo}</td>
+                    <td className="py-2 pr-4">{n.titulo}</td>
+                    <td className="py-2 pr-4">{n.peso}</td>
+                    <td className="py-2 pr-4 font-medium">{n.valor ?? "—"}</td>
+                    <td className="py-2 pr-4">{n.lancadaEm ?? ""}</td>
+                  </tr>
+                )),
+                <tr key={`${m.matriculaId}-final`} className="border-b bg-slate-50">
+                  <td className="py-2 pr-4" colSpan={4}>
+                    Média final · Frequência {m.frequencia?.percentual != null ? `${m.frequencia.percentual}%` : "—"}
+                  </td>
+                  <td className="py-2 pr-4 font-semibold">{m.notaFinal}</td>
+                  <td className="py-2 pr-4"></td>
+                </tr>,
+              ])}
 
-              {notas.length === 0 && (
+              {matriculas.length === 0 && (
                 <tr>
                   <td
-                    colSpan={4}
+                    colSpan={6}
                     className="py-6 text-center text-slate-400 text-sm"
                   >
                     Nenhuma nota disponível ainda.
@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Nota } from "../types/Nota";
 import axios, { AxiosError } from "axios";
 
@@ -72,7 +73,7 @@ export default function NotaPage() {
 
   async function carregar(): Promise<void> {
     try {
-      const resp = await api.get<Nota[]>("/notas");
+      const resp = await listarTodasPaginas<Nota>("/notas");
       setNotas(resp.data);
     } catch (err) {
       if (axios.isAxiosError(err)) {
@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Presenca } from "../types/Presenca";
 import axios, { AxiosError } from "axios";
 
@@ -71,7 +72,7 @@ export default function PresencasPage() {
 
   async function carregar(): Promise<void> {
     try {
-      const resp = await api.get<Presenca[]>("/presencas");
+      const resp = await listarTodasPaginas<Presenca>("/presencas");
       setPresencas(resp.data);
     } catch (err) {
       if (axios.isAxiosError(err)) {
@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import axios, { AxiosError } from "axios";
 
 import { Turma, TurmaView } from "../types/Turma";
@@ -125,7 +126,7 @@ export default function TurmasPage() {
       setErro(null);
 
       // GET /api/v1/turmas
-      const resp = await api.get<Turma[]>("/turmas");
+      const resp = await listarTodasPaginas<Turma>("/turmas");
       const turmas = Array.isArray(resp.data) ? resp.data : [];
 
       // pega ids únicos válidos (>0) pra cachear tudo antes
@@ -3,6 +3,7 @@ import Navbar from "../components/Navbar";
 import DataTable, { ColumnDef } from "../components/DataTable";
 import ConfirmDialog from "../components/ConfirmDialog";
 import api from "../api/api";
+import { listarTodasPaginas } from "../api/paginacao";
 import { Usuario } from "../types/Usuario";
 import axios, { AxiosError } from "axios";
 
@@ -103,7 +104,7 @@ export default function UsuariosPage() {
 
       // GET /api/v1/usuarios
       // O axios `api` já injeta Authorization: Bearer <token> via interceptor.
-      const resp = await api.get<Usuario[]>("/usuarios");
+      const resp = await listarTodasPaginas<Usuario>("/usuarios");
 
       // garante que é array
       const data = Array.isArray(resp.data) ? resp.data : [];
@@ -1,11 +1,8 @@
 import { useEffect, useState } from "react";
 import Navbar from "../../components/Navbar";
 import api from "../../api/api";
-import { Aluno } from "../../types/Aluno";
-import { Curso } from "../../types/Curso";
-import { Turma } from "../../types/Turma";
-import { Usuario } from "../../types/Usuario";
-import axios, { AxiosError } from "axios";
+import { DashboardResumo } from "../../types/Dashboard";
+import { AxiosError } from "axios";
 import { Link } from "react-router-dom";
 import { useAuth } from "../../auth/AuthContext";
 
@@ -26,15 +23,9 @@ export default function AdminDashboardPage() {
   useEffect(() => {
     async function carregar(): Promise<void> {
       try {
-        const [al, cu, tu, us] = await Promise.all([
-          api.get<Aluno[]>("/alunos").catch((e) => e),
-          api.get<Curso[]>("/cursos").catch((e) => e),
-          api.get<Turma[]>("/turmas").catch((e) => e),
-          api.get<Usuario[]>("/usuarios").catch((e) => e),
-        ]);
-
-        const len = (x: unknown): number => (axios.isAxiosError(x) ? 0 : Array.isArray((x as {data: unknown}).data) ? (x as {data: unknown[]}).data.length : 0);
-        setStats({ alunos: len(al), cursos: len(cu), turmas: len(tu), usuarios: len(us) });
+        const { data } = await api.get<DashboardResumo>("/dashboard/resumo");
+        const t = data.totais;
+        setStats({ alunos: t.alunos ?? 0, cursos: t.cursos ?? 0, turmas: t.turmas ?? 0, usuarios: t.usuarios ?? 0 });
       } catch (err) {
         const e = err as AxiosError<ApiError>;
         setErro(e.response?.data?.erro ?? "Erro ao carregar dashboard do administrador");
@@ -1,11 +1,8 @@
 import { useEffect, useState } from "react";
 import Navbar from "../../components/Navbar";
 import api from "../../api/api";
-import { Nota } from "../../types/Nota";
-import { Avaliacao } from "../../types/Avaliacao";
-import { Disciplina } from "../../types/Disciplina";
-import { Curso } from "../../types/Curso";
-import { AxiosError, AxiosResponse } from "axios";
+import { Boletim } from "../../types/Boletim";
+import { AxiosError } from "axios";
 import { Link } from "react-router-dom";
 import { useAuth } from "../../auth/AuthContext";
 
@@ -17,35 +14,7 @@ interface Stats {
   notas: number;
   avaliacoes: number;
   disciplinas: number;
-  curso: number; // 0 ou 1
-}
-
-// type guard: verifica se o valor é uma resposta AxiosResponse<T>
-function isAxiosResponse<T>(
-  value: unknown
-): value is AxiosResponse<T> {
-  return (
-    typeof value === "object" &&
-    value !== null &&
-    "data" in value &&
-    "status" in value
-  );
-}
-
-// devolve o tamanho de um array dentro de uma resposta axios (ou 0 se foi erro)
-function getArrayCount<T>(value: unknown): number {
-  if (isAxiosResponse<T[]>(value)) {
-    return Array.isArray(value.data) ? value.data.length : 0;
-  }
-  return 0;
-}
-
-// devolve 1 se veio pelo menos 1 curso, senão 0
-function hasAtLeastOneCurso(value: unknown): number {
-  if (isAxiosResponse<Curso[]>(value)) {
-    return Array.isArray(value.data) && value.data.length > 0 ? 1 : 0;
-  }
-  return 0;
+  curso: number;
 }
 
 export default function AlunoDashboardPage() {
@@ -61,20 +30,14 @@ export default function AlunoDashboardPage() {
   useEffect(() => {
     async function carregar(): Promise<void> {
       try {
-        // TODO: trocar para endpoints específicos do aluno logado quando disponíveis.
-        // Ex: /notas/matricula/{matriculaIdDoAluno}
-        const [nResp, aResp, dResp, cResp] = await Promise.all([
-          api.get<Nota[]>("/notas").catch((e) => e),
-          api.get<Avaliacao[]>("/avaliacoes").catch((e) => e),
-          api.get<Disciplina[]>("/disciplinas").catch((e) => e),
-          api.get<Curso[]>("/cursos").catch((e) => e),
-        ]);
+        const { data } = await api.get<Boletim>("/me/boletim");
+        const notas = data.matriculas.flatMap((m) => m.notas);
 
         const novasStats: Stats = {
-          notas: getArrayCount<Nota>(nResp),
-          avaliacoes: getArrayCount<Avaliacao>(aResp),
-          disciplinas: getArrayCount<Disciplina>(dResp),
-          curso: hasAtLeastOneCurso(cResp),
+          notas: notas.filter((n) => n.valor != null).length,
+          avaliacoes: notas.length,
+          disciplinas: new Set(data.matriculas.map((m) => m.disciplinaId)).size,
+          curso: new Set(data.matriculas.map((m) => m.cursoId)).size,
         };
 
         setStats(novasStats);
@@ -1,6 +1,6 @@
 import { useEffect, useState } from "react";
 import Navbar from "../../components/Navbar";
-import api from "../../api/api";
+import { listarTodasPaginas } from "../../api/paginacao";
 import { Turma } from "../../types/Turma";
 import { Avaliacao } from "../../types/Avaliacao";
 import { Presenca } from "../../types/Presenca";
@@ -29,10 +29,10 @@ export default function ProfessorDashboardPage() {
         // Se no futuro você tiver endpoints filtrando por professor, troque para:
         // /turmas/professor/{professorId} etc.
         const [t, a, p, n] = await Promise.all([
-          api.get<Turma[]>("/turmas").catch((e) => e),
-          api.get<Avaliacao[]>("/avaliacoes").catch((e) => e),
-          api.get<Presenca[]>("/presencas").catch((e) => e),
-          api.get<Nota[]>("/notas").catch((e) => e),
+          listarTodasPaginas<Turma>("/turmas").catch((e) => e),
+          listarTodasPaginas<Avaliacao>("/avaliacoes").catch((e) => e),
+          listarTodasPaginas<Presenca>("/presencas").catch((e) => e),
+          listarTodasPaginas<Nota>("/notas").catch((e) => e),
         ]);
         const len = (x: unknown): number => (axios.isAxiosError(x) ? 0 : Array.isArray((x as {data: unknown}).data) ? (x as {data: unknown[]}).data.length : 0);
         setStats({ turmas: len(t), avaliacoes: len(a), presencas: len(p), notas: len(n) });
@@ -0,0 +1,38 @@
+export interface BoletimNota {
+  avaliacaoId: number;
+  titulo: string;
+  tipo: string;
+  peso: number;
+  valor?: number | null;
+  lancadaEm?: string | null; // LocalDateTime ISO
+}
+
+export interface BoletimFrequencia {
+  aulas: number;
+  presencas: number;
+  faltas: number;
+  percentual?: number | null;
+  abaixoDoMinimo: boolean;
+}
+
+export interface BoletimMatricula {
+  matriculaId: number;
+  situacao: string;
+  turmaId: number;
+  periodo: string;
+  disciplinaId: number;
+  disciplina: string;
+  cursoId: number;
+  curso: string;
+  notas: BoletimNota[];
+  somaPesos: number;
+  notaFinal: number;
+  frequencia?: BoletimFrequencia | null;
+}
+
+export interface Boletim {
+  alunoId: number;
+  alunoNome: string;
+  matriculas: BoletimMatricula[];
+  geradoEm: string;
+}
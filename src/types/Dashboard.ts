@@ -0,0 +1,6 @@
+export interface DashboardResumo {
+  totais: Record<string, number>;
+  matriculasAtivasPorPeriodo: Record<string, number>;
+  usuariosPorPerfil: Record<string, number>;
+  geradoEm: string;
+}